@@ -1,35 +1,62 @@
 package com.vibecoding.k8sdoctor.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 /**
  * 캐시 설정
+ * - Kubernetes 목록 조회 캐시 (ClusterReadCache가 사용)
+ * - 리소스 종류별로 TTL을 다르게 설정 (변경 빈도가 높은 Pod은 짧게)
+ * - recordStats()로 hit/miss 통계 수집 (actuator metrics의 cache.gets)
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    public static final String NAMESPACES = "namespaces";
+    public static final String NODES = "nodes";
+    public static final String DEPLOYMENTS = "deployments";
+    public static final String PODS = "pods";
+
+    @Value("${kubernetes.read-cache.ttl.namespaces:5m}")
+    private Duration namespacesTtl;
+
+    @Value("${kubernetes.read-cache.ttl.nodes:1m}")
+    private Duration nodesTtl;
+
+    @Value("${kubernetes.read-cache.ttl.deployments:30s}")
+    private Duration deploymentsTtl;
+
+    @Value("${kubernetes.read-cache.ttl.pods:10s}")
+    private Duration podsTtl;
+
+    @Value("${kubernetes.read-cache.maximum-size:100}")
+    private long maximumSize;
+
     @Bean
     public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-            "namespaces",
-            "nodes",
-            "deployments",
-            "pods"
-        );
-
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .maximumSize(100)
-            .recordStats());
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        cacheManager.registerCustomCache(NAMESPACES, newCache(namespacesTtl));
+        cacheManager.registerCustomCache(NODES, newCache(nodesTtl));
+        cacheManager.registerCustomCache(DEPLOYMENTS, newCache(deploymentsTtl));
+        cacheManager.registerCustomCache(PODS, newCache(podsTtl));
 
         return cacheManager;
     }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> newCache(Duration ttl) {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+    }
 }
@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.controller;
 
 import com.vibecoding.k8sdoctor.model.ClusterConfig;
 import com.vibecoding.k8sdoctor.model.ClusterInfo;
+import com.vibecoding.k8sdoctor.model.ClusterReadiness;
 import com.vibecoding.k8sdoctor.service.ClusterService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -14,7 +15,9 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 클러스터 관리 컨트롤러
@@ -35,11 +38,15 @@ public class ClusterController {
     public String listClusters(Model model) {
         log.info("Listing clusters");
 
-        // 페이지 로드 시 자동 갱신 (1분 이상 경과한 클러스터만)
-        clusterService.refreshAllClustersIfNeeded();
-
+        // 상태 갱신은 ClusterHealthRefresher가 백그라운드에서 수행 (여기서는 스냅샷만 조회)
         List<ClusterInfo> clusters = clusterService.listClusters();
+
+        // 클라이언트 초기화 상태 (재시작 직후 초기화 중이거나 실패한 클러스터 표시)
+        Map<String, ClusterReadiness> readiness = new HashMap<>();
+        clusters.forEach(cluster -> readiness.put(cluster.getId(), clusterService.getReadiness(cluster.getId())));
+
         model.addAttribute("clusters", clusters);
+        model.addAttribute("readiness", readiness);
         model.addAttribute("title", "Cluster Management");
         return "clusters/list";
     }
@@ -71,7 +78,9 @@ public class ClusterController {
             if (apiServerUrl == null || apiServerUrl.isBlank()) {
                 throw new IllegalArgumentException("API Server URL is required");
             }
-            if (token == null || token.isBlank()) {
+            // 덤프 기반 오프라인 클러스터(file:)는 토큰 불필요
+            boolean dumpSource = ClusterService.isDumpSource(apiServerUrl);
+            if (!dumpSource && (token == null || token.isBlank())) {
                 throw new IllegalArgumentException("Service Account Token is required");
             }
 
@@ -80,7 +89,7 @@ public class ClusterController {
                 .name(name)
                 .description(description)
                 .apiServerUrl(apiServerUrl)
-                .token(token)
+                .token(dumpSource ? "" : token)
                 .build();
 
             // 클러스터 등록
@@ -109,9 +118,6 @@ public class ClusterController {
     ) {
         log.info("Getting cluster detail: {}", clusterId);
 
-        // 페이지 로드 시 자동 갱신 (1분 이상 경과했으면)
-        clusterService.refreshClusterIfNeeded(clusterId);
-
         ClusterInfo cluster = clusterService.getCluster(clusterId)
             .orElseThrow(() -> new RuntimeException("Cluster not found: " + clusterId));
 
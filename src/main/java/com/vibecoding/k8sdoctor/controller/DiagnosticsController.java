@@ -1,23 +1,35 @@
 package com.vibecoding.k8sdoctor.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vibecoding.k8sdoctor.model.ClusterInfo;
 import com.vibecoding.k8sdoctor.model.DiagnosisResult;
 import com.vibecoding.k8sdoctor.model.FaultInfo;
+import com.vibecoding.k8sdoctor.model.ScanResult;
 import com.vibecoding.k8sdoctor.model.Severity;
+import com.vibecoding.k8sdoctor.repository.LiveFaultRegistry;
 import com.vibecoding.k8sdoctor.service.ClusterService;
 import com.vibecoding.k8sdoctor.service.DiagnosticsService;
 import com.vibecoding.k8sdoctor.service.FaultClassificationService;
+import com.vibecoding.k8sdoctor.service.FaultWatchEngine;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,9 +42,14 @@ public class DiagnosticsController {
 
     private static final Logger log = LoggerFactory.getLogger(DiagnosticsController.class);
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final ClusterService clusterService;
     private final DiagnosticsService diagnosticsService;
     private final FaultClassificationService faultService;
+    private final FaultWatchEngine faultWatchEngine;
+    private final LiveFaultRegistry liveFaultRegistry;
+    private final ObjectMapper objectMapper;
 
     /**
      * 클러스터 전체 진단 페이지 (트리 구조, On-demand AI 진단)
@@ -47,8 +64,9 @@ public class DiagnosticsController {
         ClusterInfo cluster = clusterService.getCluster(clusterId)
                 .orElseThrow(() -> new RuntimeException("Cluster not found: " + clusterId));
 
-        // 빠른 장애 탐지만 수행 (AI 분석 제외)
-        List<FaultInfo> faults = diagnosticsService.scanCluster(clusterId);
+        // 빠른 장애 탐지만 수행 (AI 분석 제외, 장애 감시 엔진이 동작 중이면 현재 장애 목록 사용)
+        ScanResult result = diagnosticsService.currentFaults(clusterId);
+        List<FaultInfo> faults = result.faults();
 
         // 리소스별로 가장 심각한 장애만 선택 (중복 제거) - Pod, Job, CronJob 포함
         Map<String, FaultInfo> uniqueFaults = faults.stream()
@@ -80,6 +98,8 @@ public class DiagnosticsController {
         model.addAttribute("cluster", cluster);
         model.addAttribute("podsByNamespace", podsByNamespace);
         model.addAttribute("statistics", stats);
+        model.addAttribute("incompleteKinds", result.incompleteKinds());
+        model.addAttribute("staleKinds", result.staleKinds());
         model.addAttribute("title", "Cluster Diagnostics - " + cluster.getName());
 
         return "diagnostics/cluster";
@@ -128,8 +148,8 @@ public class DiagnosticsController {
 
         try {
             // 빠른 장애 탐지
-            List<FaultInfo> allFaults = diagnosticsService.scanNamespace(clusterId, namespace);
-            List<FaultInfo> podFaults = allFaults.stream()
+            ScanResult result = diagnosticsService.currentFaults(clusterId, namespace);
+            List<FaultInfo> podFaults = result.faults().stream()
                     .filter(f -> name.equals(f.getResourceName()) &&
                                  ("Pod".equals(f.getResourceKind()) ||
                                   "Job".equals(f.getResourceKind()) ||
@@ -137,10 +157,12 @@ public class DiagnosticsController {
                     .collect(Collectors.toList());
 
             if (podFaults.isEmpty()) {
+                // 일부 종류가 빠진 스캔이면 "장애 없음"으로 단정하지 않음
                 return Map.of(
                         "success", true,
                         "hasFaults", false,
-                        "message", "No faults detected"
+                        "message", result.isComplete() ? "No faults detected" : "No faults detected in completed kinds",
+                        "incompleteKinds", result.incompleteKinds()
                 );
             }
 
@@ -179,12 +201,14 @@ public class DiagnosticsController {
     @GetMapping("/api/scan")
     @ResponseBody
     public DiagnosticsResult scanClusterApi(@PathVariable String clusterId) {
-        List<FaultInfo> faults = diagnosticsService.scanCluster(clusterId);
-        FaultClassificationService.FaultStatistics stats = faultService.getStatistics(faults);
+        ScanResult result = diagnosticsService.currentFaults(clusterId);
+        FaultClassificationService.FaultStatistics stats = faultService.getStatistics(result.faults());
 
         return DiagnosticsResult.builder()
-                .faults(faults)
+                .faults(result.faults())
                 .statistics(stats)
+                .incompleteKinds(result.incompleteKinds())
+                .staleKinds(result.staleKinds())
                 .build();
     }
 
@@ -197,25 +221,107 @@ public class DiagnosticsController {
             @PathVariable String clusterId,
             @PathVariable String namespace
     ) {
-        List<FaultInfo> faults = diagnosticsService.scanNamespace(clusterId, namespace);
-        FaultClassificationService.FaultStatistics stats = faultService.getStatistics(faults);
+        ScanResult result = diagnosticsService.currentFaults(clusterId, namespace);
+        FaultClassificationService.FaultStatistics stats = faultService.getStatistics(result.faults());
 
         return DiagnosticsResult.builder()
-                .faults(faults)
+                .faults(result.faults())
                 .statistics(stats)
+                .incompleteKinds(result.incompleteKinds())
+                .staleKinds(result.staleKinds())
                 .build();
     }
 
+    /**
+     * REST API - 클러스터 진단 (NDJSON 스트리밍)
+     * - 장애를 찾는 즉시 한 줄씩 전송하고, 마지막 줄에 통계 전송 (전체 결과를 모으지 않음)
+     */
+    @GetMapping(value = "/api/scan/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamClusterScanApi(@PathVariable String clusterId) {
+        return ndjson(sink -> diagnosticsService.streamCurrentFaults(clusterId, sink));
+    }
+
+    /**
+     * REST API - 네임스페이스 진단 (NDJSON 스트리밍)
+     */
+    @GetMapping(value = "/api/namespace/{namespace}/scan/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamNamespaceScanApi(
+            @PathVariable String clusterId,
+            @PathVariable String namespace
+    ) {
+        return ndjson(sink -> diagnosticsService.streamCurrentFaults(clusterId, namespace, sink));
+    }
+
+    /**
+     * 스트리밍 스캔 응답
+     * - 줄 형식: {"type":"fault","fault":{...}} 반복, 마지막에 {"type":"statistics","statistics":{...},"incompleteKinds":{...}}
+     *   (incompleteKinds: 실패/시간 초과로 결과에서 빠진 종류 -> 사유)
+     * - 스캔이 실패하면 통계 대신 {"type":"error","message":"..."} (응답 상태는 이미 200)
+     */
+    private ResponseEntity<StreamingResponseBody> ndjson(Function<Consumer<FaultInfo>, Map<String, String>> scan) {
+        StreamingResponseBody body = out -> {
+            FaultClassificationService.FaultStatistics stats = new FaultClassificationService.FaultStatistics();
+            try {
+                Map<String, String> incompleteKinds = scan.apply(fault -> {
+                    stats.add(fault);
+                    writeLine(out, Map.of("type", "fault", "fault", fault));
+                });
+                writeLine(out, Map.of("type", "statistics", "statistics", stats, "incompleteKinds", incompleteKinds));
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 종료
+                log.debug("Streaming scan aborted: {}", e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("Streaming scan failed: {}", e.getMessage(), e);
+                writeLine(out, Map.of("type", "error", "message", String.valueOf(e.getMessage())));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, Object frame) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(frame));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * REST API - 장애 감시 엔진의 현재 장애 (열린 장애 + 최근 해결된 장애)
+     * - live가 false이면 엔진이 이 클러스터를 감시하지 않거나 첫 평가 전 (목록이 비어 있을 수 있음)
+     */
+    @GetMapping("/api/faults")
+    @ResponseBody
+    public Map<String, Object> liveFaultsApi(@PathVariable String clusterId) {
+        return Map.of(
+                "live", faultWatchEngine.isLive(clusterId),
+                "open", liveFaultRegistry.openFaults(clusterId),
+                "resolved", liveFaultRegistry.recentlyResolved(clusterId)
+        );
+    }
+
     public static class DiagnosticsResult {
         private List<FaultInfo> faults;
         private FaultClassificationService.FaultStatistics statistics;
+        private Map<String, String> incompleteKinds; // 실패/시간 초과로 결과에서 빠진 종류 -> 사유
+        private Map<String, String> staleKinds = Map.of(); // 캐시 스냅샷 내용으로 스캔한 종류 -> 데이터 나이
 
         public DiagnosticsResult() {
         }
 
         public DiagnosticsResult(List<FaultInfo> faults, FaultClassificationService.FaultStatistics statistics) {
+            this(faults, statistics, Map.of());
+        }
+
+        public DiagnosticsResult(List<FaultInfo> faults, FaultClassificationService.FaultStatistics statistics,
+                                 Map<String, String> incompleteKinds) {
             this.faults = faults;
             this.statistics = statistics;
+            this.incompleteKinds = incompleteKinds;
         }
 
         public static DiagnosticsResultBuilder builder() {
@@ -238,9 +344,27 @@ public class DiagnosticsController {
             this.statistics = statistics;
         }
 
+        public Map<String, String> getIncompleteKinds() {
+            return incompleteKinds;
+        }
+
+        public void setIncompleteKinds(Map<String, String> incompleteKinds) {
+            this.incompleteKinds = incompleteKinds;
+        }
+
+        public Map<String, String> getStaleKinds() {
+            return staleKinds;
+        }
+
+        public void setStaleKinds(Map<String, String> staleKinds) {
+            this.staleKinds = staleKinds;
+        }
+
         public static class DiagnosticsResultBuilder {
             private List<FaultInfo> faults;
             private FaultClassificationService.FaultStatistics statistics;
+            private Map<String, String> incompleteKinds = Map.of();
+            private Map<String, String> staleKinds = Map.of();
 
             public DiagnosticsResultBuilder faults(List<FaultInfo> faults) {
                 this.faults = faults;
@@ -252,8 +376,20 @@ public class DiagnosticsController {
                 return this;
             }
 
+            public DiagnosticsResultBuilder incompleteKinds(Map<String, String> incompleteKinds) {
+                this.incompleteKinds = incompleteKinds;
+                return this;
+            }
+
+            public DiagnosticsResultBuilder staleKinds(Map<String, String> staleKinds) {
+                this.staleKinds = staleKinds;
+                return this;
+            }
+
             public DiagnosticsResult build() {
-                return new DiagnosticsResult(faults, statistics);
+                DiagnosticsResult result = new DiagnosticsResult(faults, statistics, incompleteKinds);
+                result.setStaleKinds(staleKinds);
+                return result;
             }
         }
     }
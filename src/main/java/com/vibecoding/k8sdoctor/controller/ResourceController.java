@@ -111,7 +111,8 @@ public class ResourceController {
             .orElseThrow(() -> new RuntimeException("Cluster not found"));
 
         Pod pod = multiClusterK8sService.getPod(clusterId, namespace, name);
-        List<Event> events = multiClusterK8sService.getPodEvents(clusterId, namespace, name);
+        List<Event> events = multiClusterK8sService.getPodEvents(clusterId, namespace, name,
+            pod.getMetadata().getUid());
 
         // 로그 가져오기 (첫 번째 컨테이너, 최근 100줄)
         String logs = "";
@@ -193,12 +194,12 @@ public class ResourceController {
         Deployment deployment = multiClusterK8sService.getDeployment(clusterId, namespace, name);
 
         // Deployment의 Pod 목록
-        List<Pod> pods = multiClusterK8sService.listPodsInNamespace(clusterId, namespace).stream()
-            .filter(pod -> belongsToDeployment(pod, deployment))
-            .collect(Collectors.toList());
+        List<Pod> pods = multiClusterK8sService.listPodsBySelector(clusterId, namespace,
+            deployment.getSpec() != null ? deployment.getSpec().getSelector() : null);
 
         // Deployment 이벤트
-        List<Event> events = multiClusterK8sService.getDeploymentEvents(clusterId, namespace, name);
+        List<Event> events = multiClusterK8sService.getDeploymentEvents(clusterId, namespace, name,
+            deployment.getMetadata().getUid());
 
         // Deployment 상태 분석
         boolean isHealthy = isDeploymentHealthy(deployment);
@@ -273,12 +274,12 @@ public class ResourceController {
         DaemonSet daemonSet = multiClusterK8sService.getDaemonSet(clusterId, namespace, name);
 
         // DaemonSet의 Pod 목록
-        List<Pod> pods = multiClusterK8sService.listPodsInNamespace(clusterId, namespace).stream()
-            .filter(pod -> belongsToDaemonSet(pod, daemonSet))
-            .collect(Collectors.toList());
+        List<Pod> pods = multiClusterK8sService.listPodsBySelector(clusterId, namespace,
+            daemonSet.getSpec() != null ? daemonSet.getSpec().getSelector() : null);
 
         // DaemonSet 이벤트
-        List<Event> events = multiClusterK8sService.getDaemonSetEvents(clusterId, namespace, name);
+        List<Event> events = multiClusterK8sService.getDaemonSetEvents(clusterId, namespace, name,
+            daemonSet.getMetadata().getUid());
 
         // DaemonSet 상태 분석
         boolean isHealthy = isDaemonSetHealthy(daemonSet);
@@ -336,10 +337,7 @@ public class ResourceController {
         Node node = multiClusterK8sService.getNode(clusterId, name);
 
         // Node의 Pod 목록
-        List<Pod> pods = multiClusterK8sService.listAllPods(clusterId).stream()
-            .filter(pod -> pod.getSpec() != null &&
-                          name.equals(pod.getSpec().getNodeName()))
-            .collect(Collectors.toList());
+        List<Pod> pods = multiClusterK8sService.listPodsOnNode(clusterId, name);
 
         // Node 상태 분석
         boolean isReady = isNodeReady(node);
@@ -401,26 +399,6 @@ public class ResourceController {
 
     // Helper methods
 
-    /**
-     * Pod이 특정 Deployment에 속하는지 확인
-     */
-    private boolean belongsToDeployment(Pod pod, Deployment deployment) {
-        if (deployment.getSpec() == null || deployment.getSpec().getSelector() == null ||
-            deployment.getSpec().getSelector().getMatchLabels() == null) {
-            return false;
-        }
-
-        if (pod.getMetadata() == null || pod.getMetadata().getLabels() == null) {
-            return false;
-        }
-
-        var deploymentLabels = deployment.getSpec().getSelector().getMatchLabels();
-        var podLabels = pod.getMetadata().getLabels();
-
-        return deploymentLabels.entrySet().stream()
-            .allMatch(entry -> entry.getValue().equals(podLabels.get(entry.getKey())));
-    }
-
     /**
      * Deployment가 정상 상태인지 확인
      */
@@ -549,12 +527,12 @@ public class ResourceController {
         StatefulSet statefulSet = multiClusterK8sService.getStatefulSet(clusterId, namespace, name);
 
         // StatefulSet의 Pod 목록
-        List<Pod> pods = multiClusterK8sService.listPodsInNamespace(clusterId, namespace).stream()
-            .filter(pod -> belongsToStatefulSet(pod, statefulSet))
-            .collect(Collectors.toList());
+        List<Pod> pods = multiClusterK8sService.listPodsBySelector(clusterId, namespace,
+            statefulSet.getSpec() != null ? statefulSet.getSpec().getSelector() : null);
 
         // StatefulSet 이벤트
-        List<Event> events = multiClusterK8sService.getStatefulSetEvents(clusterId, namespace, name);
+        List<Event> events = multiClusterK8sService.getStatefulSetEvents(clusterId, namespace, name,
+            statefulSet.getMetadata().getUid());
 
         // StatefulSet 상태 분석
         boolean isHealthy = isStatefulSetHealthy(statefulSet);
@@ -628,18 +606,18 @@ public class ResourceController {
 
         Job job = multiClusterK8sService.getJob(clusterId, namespace, name);
 
-        // Job의 Pod 목록
-        List<Pod> pods = multiClusterK8sService.listPodsInNamespace(clusterId, namespace).stream()
-            .filter(pod -> pod.getMetadata() != null &&
-                          pod.getMetadata().getLabels() != null &&
-                          name.equals(pod.getMetadata().getLabels().get("job-name")))
-            .collect(Collectors.toList());
+        // Job의 Pod 목록 (spec.selector가 없으면 job-name 레이블로 조회)
+        LabelSelector jobSelector = job.getSpec() != null && job.getSpec().getSelector() != null
+            ? job.getSpec().getSelector()
+            : new LabelSelectorBuilder().addToMatchLabels("job-name", name).build();
+        List<Pod> pods = multiClusterK8sService.listPodsBySelector(clusterId, namespace, jobSelector);
 
         // Job 로그
         String logs = multiClusterK8sService.getJobLogs(clusterId, namespace, name);
 
         // Job 이벤트
-        List<Event> events = multiClusterK8sService.getJobEvents(clusterId, namespace, name);
+        List<Event> events = multiClusterK8sService.getJobEvents(clusterId, namespace, name,
+            job.getMetadata().getUid());
 
         // Add YAML serialization for YAML viewer modal
         String yaml = Serialization.asYaml(job);
@@ -724,7 +702,8 @@ public class ResourceController {
             .collect(Collectors.toList());
 
         // CronJob 이벤트
-        List<Event> events = multiClusterK8sService.getCronJobEvents(clusterId, namespace, name);
+        List<Event> events = multiClusterK8sService.getCronJobEvents(clusterId, namespace, name,
+            cronJob.getMetadata().getUid());
 
         // Add YAML serialization for YAML viewer modal
         String yaml = Serialization.asYaml(cronJob);
@@ -738,46 +717,6 @@ public class ResourceController {
         return "resources/cronjob-detail";
     }
 
-    /**
-     * Pod이 특정 StatefulSet에 속하는지 확인
-     */
-    private boolean belongsToStatefulSet(Pod pod, StatefulSet statefulSet) {
-        if (statefulSet.getSpec() == null || statefulSet.getSpec().getSelector() == null ||
-            statefulSet.getSpec().getSelector().getMatchLabels() == null) {
-            return false;
-        }
-
-        if (pod.getMetadata() == null || pod.getMetadata().getLabels() == null) {
-            return false;
-        }
-
-        var statefulSetLabels = statefulSet.getSpec().getSelector().getMatchLabels();
-        var podLabels = pod.getMetadata().getLabels();
-
-        return statefulSetLabels.entrySet().stream()
-            .allMatch(entry -> entry.getValue().equals(podLabels.get(entry.getKey())));
-    }
-
-    /**
-     * Pod이 특정 DaemonSet에 속하는지 확인
-     */
-    private boolean belongsToDaemonSet(Pod pod, DaemonSet daemonSet) {
-        if (daemonSet.getSpec() == null || daemonSet.getSpec().getSelector() == null ||
-            daemonSet.getSpec().getSelector().getMatchLabels() == null) {
-            return false;
-        }
-
-        if (pod.getMetadata() == null || pod.getMetadata().getLabels() == null) {
-            return false;
-        }
-
-        var daemonSetLabels = daemonSet.getSpec().getSelector().getMatchLabels();
-        var podLabels = pod.getMetadata().getLabels();
-
-        return daemonSetLabels.entrySet().stream()
-            .allMatch(entry -> entry.getValue().equals(podLabels.get(entry.getKey())));
-    }
-
     /**
      * DaemonSet이 정상 상태인지 확인
      */
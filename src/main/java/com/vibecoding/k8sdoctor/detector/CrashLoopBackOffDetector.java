@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -20,27 +21,22 @@ import java.util.Map;
  */
 
 @Component
-public class CrashLoopBackOffDetector implements FaultDetector {
+public class CrashLoopBackOffDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(CrashLoopBackOffDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
         List<FaultInfo> faults = new ArrayList<>();
 
-        if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+        // CrashLoopBackOff로 대기 중인 컨테이너가 없으면 바로 종료
+        if (!facts.hasWaitingReason("CrashLoopBackOff")) {
             return faults;
         }
 
-        for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
+        for (ContainerStatus status : facts.containerStatuses()) {
             if (isCrashLoopBackOff(status)) {
-                faults.add(createFaultInfo(pod, status));
+                faults.add(createFaultInfo(facts, status));
             }
         }
 
@@ -55,7 +51,8 @@ public class CrashLoopBackOffDetector implements FaultDetector {
         return false;
     }
 
-    private FaultInfo createFaultInfo(Pod pod, ContainerStatus status) {
+    private FaultInfo createFaultInfo(PodFacts facts, ContainerStatus status) {
+        Pod pod = facts.pod();
         int restartCount = status.getRestartCount() != null ? status.getRestartCount() : 0;
 
         // 마지막 종료 상태에서 exitCode 추출
@@ -70,22 +67,8 @@ public class CrashLoopBackOffDetector implements FaultDetector {
         }
 
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // exitCode에 따른 구체적인 설명 추가
         String exitCodeDesc = getExitCodeDescription(exitCode);
@@ -94,17 +77,8 @@ public class CrashLoopBackOffDetector implements FaultDetector {
         String issueCategory = classifyIssue(exitCode, terminationReason, terminationMessage);
 
         // 컨테이너의 liveness/startup probe 설정 확인
-        boolean hasLivenessProbe = false;
-        boolean hasStartupProbe = false;
-        if (pod.getSpec() != null && pod.getSpec().getContainers() != null) {
-            for (var container : pod.getSpec().getContainers()) {
-                if (container.getName().equals(status.getName())) {
-                    hasLivenessProbe = container.getLivenessProbe() != null;
-                    hasStartupProbe = container.getStartupProbe() != null;
-                    break;
-                }
-            }
-        }
+        boolean hasLivenessProbe = facts.hasLivenessProbe(status.getName());
+        boolean hasStartupProbe = facts.hasStartupProbe(status.getName());
 
         // exit 137 + probe 있음 + OOMKilled 아님 → probe kill 가능성 높음
         if ("SIGKILL_NOT_OOM".equals(issueCategory)) {
@@ -232,6 +206,11 @@ public class CrashLoopBackOffDetector implements FaultDetector {
         }
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.CRASH_LOOP_BACK_OFF;
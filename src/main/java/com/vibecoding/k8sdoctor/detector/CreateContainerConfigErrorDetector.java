@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -22,36 +23,29 @@ import java.util.*;
  * - volumeMount 대상 ConfigMap/Secret 없음
  */
 @Component
-public class CreateContainerConfigErrorDetector implements FaultDetector {
+public class CreateContainerConfigErrorDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(CreateContainerConfigErrorDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
         List<FaultInfo> faults = new ArrayList<>();
 
-        if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+        // CreateContainerConfigError로 대기 중인 컨테이너(init 포함)가 없으면 바로 종료
+        if (!facts.hasWaitingReason("CreateContainerConfigError")) {
             return faults;
         }
 
-        for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
+        for (ContainerStatus status : facts.containerStatuses()) {
             if (isCreateContainerConfigError(status)) {
-                faults.add(createFaultInfo(pod, status));
+                faults.add(createFaultInfo(facts, status));
             }
         }
 
         // initContainerStatuses도 체크
-        if (pod.getStatus().getInitContainerStatuses() != null) {
-            for (ContainerStatus status : pod.getStatus().getInitContainerStatuses()) {
-                if (isCreateContainerConfigError(status)) {
-                    faults.add(createFaultInfo(pod, status));
-                }
+        for (ContainerStatus status : facts.initContainerStatuses()) {
+            if (isCreateContainerConfigError(status)) {
+                faults.add(createFaultInfo(facts, status));
             }
         }
 
@@ -66,7 +60,8 @@ public class CreateContainerConfigErrorDetector implements FaultDetector {
         return false;
     }
 
-    private FaultInfo createFaultInfo(Pod pod, ContainerStatus status) {
+    private FaultInfo createFaultInfo(PodFacts facts, ContainerStatus status) {
+        Pod pod = facts.pod();
         String waitingMessage = "";
         if (status.getState() != null && status.getState().getWaiting() != null) {
             waitingMessage = status.getState().getWaiting().getMessage();
@@ -74,22 +69,8 @@ public class CreateContainerConfigErrorDetector implements FaultDetector {
         }
 
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // 에러 원인 분류
         String issueCategory = categorizeError(waitingMessage);
@@ -207,6 +188,11 @@ public class CreateContainerConfigErrorDetector implements FaultDetector {
         return desc.toString();
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.CREATE_CONTAINER_CONFIG_ERROR;
@@ -26,8 +26,8 @@ public class CronJobFailedDetector implements FaultDetector {
     private static final Logger log = LoggerFactory.getLogger(CronJobFailedDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "CronJob".equals(resourceKind);
+    public Set<String> supportedKinds() {
+        return Set.of("CronJob");
     }
 
     @Override
@@ -60,6 +60,13 @@ public class CronJobFailedDetector implements FaultDetector {
         return faults;
     }
 
+    @Override
+    public boolean isTimeDependent(Object resource) {
+        // suspended가 아니면 마지막 스케줄 이후 경과 시간으로 판단
+        CronJob cronJob = (CronJob) resource;
+        return cronJob.getSpec() == null || !Boolean.TRUE.equals(cronJob.getSpec().getSuspend());
+    }
+
     private boolean isScheduleStale(CronJob cronJob) {
         CronJobStatus status = cronJob.getStatus();
         if (status == null || status.getLastScheduleTime() == null) {
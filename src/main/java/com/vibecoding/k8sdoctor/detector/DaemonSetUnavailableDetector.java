@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * DaemonSet 가용성 장애 탐지기
@@ -24,8 +25,8 @@ public class DaemonSetUnavailableDetector implements FaultDetector {
     private static final Logger log = LoggerFactory.getLogger(DaemonSetUnavailableDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "DaemonSet".equals(resourceKind);
+    public Set<String> supportedKinds() {
+        return Set.of("DaemonSet");
     }
 
     @Override
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Deployment 가용성 장애 탐지기
@@ -24,8 +25,8 @@ public class DeploymentUnavailableDetector implements FaultDetector {
     private static final Logger log = LoggerFactory.getLogger(DeploymentUnavailableDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Deployment".equals(resourceKind);
+    public Set<String> supportedKinds() {
+        return Set.of("Deployment");
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.Pod;
 import org.slf4j.Logger;
@@ -21,18 +22,13 @@ import java.util.*;
  * - PID 압박 (PIDPressure)
  */
 @Component
-public class EvictedDetector implements FaultDetector {
+public class EvictedDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(EvictedDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
+        Pod pod = facts.pod();
         List<FaultInfo> faults = new ArrayList<>();
 
         if (pod.getStatus() == null) {
@@ -40,35 +36,22 @@ public class EvictedDetector implements FaultDetector {
         }
 
         // Phase가 Failed이고 reason이 Evicted인 경우
-        String phase = pod.getStatus().getPhase();
+        String phase = facts.phase();
         String reason = pod.getStatus().getReason();
         String message = pod.getStatus().getMessage();
 
         if ("Failed".equals(phase) && "Evicted".equals(reason)) {
-            faults.add(createFaultInfo(pod, message));
+            faults.add(createFaultInfo(facts, message));
         }
 
         return faults;
     }
 
-    private FaultInfo createFaultInfo(Pod pod, String evictionMessage) {
+    private FaultInfo createFaultInfo(PodFacts facts, String evictionMessage) {
+        Pod pod = facts.pod();
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // 축출 원인 분류
         String issueCategory = classifyEvictionReason(evictionMessage);
@@ -217,6 +200,11 @@ public class EvictedDetector implements FaultDetector {
         return desc.toString();
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.EVICTED;
@@ -4,21 +4,30 @@ import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * 장애 탐지기 인터페이스
  */
 public interface FaultDetector {
     /**
-     * 이 탐지기가 해당 리소스를 탐지할 수 있는지 확인
+     * 이 탐지기가 탐지하는 리소스 종류 (시작 시 한 번만 조회해 dispatch 테이블 구성)
      */
-    boolean canDetect(String resourceKind);
+    Set<String> supportedKinds();
 
     /**
      * 리소스에서 장애를 탐지
      */
     List<FaultInfo> detect(String clusterId, String namespace, Object resource);
 
+    /**
+     * 리소스가 바뀌지 않아도 시간 경과만으로 이 리소스의 탐지 결과가 바뀔 수 있는지
+     * - true이면 resourceVersion이 같아도 재스캔마다 다시 탐지 (증분 스캔에서 결과를 재사용하지 않음)
+     */
+    default boolean isTimeDependent(Object resource) {
+        return false;
+    }
+
     /**
      * 이 탐지기가 탐지하는 장애 유형
      */
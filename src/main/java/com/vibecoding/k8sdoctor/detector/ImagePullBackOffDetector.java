@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -20,27 +21,22 @@ import java.util.Map;
  */
 
 @Component
-public class ImagePullBackOffDetector implements FaultDetector {
+public class ImagePullBackOffDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(ImagePullBackOffDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
         List<FaultInfo> faults = new ArrayList<>();
 
-        if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+        // 이미지 pull 오류로 대기 중인 컨테이너가 없으면 바로 종료
+        if (!facts.hasWaitingReason("ImagePullBackOff") && !facts.hasWaitingReason("ErrImagePull")) {
             return faults;
         }
 
-        for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
+        for (ContainerStatus status : facts.containerStatuses()) {
             if (isImagePullError(status)) {
-                faults.add(createFaultInfo(pod, status));
+                faults.add(createFaultInfo(facts, status));
             }
         }
 
@@ -55,7 +51,8 @@ public class ImagePullBackOffDetector implements FaultDetector {
         return false;
     }
 
-    private FaultInfo createFaultInfo(Pod pod, ContainerStatus status) {
+    private FaultInfo createFaultInfo(PodFacts facts, ContainerStatus status) {
+        Pod pod = facts.pod();
         String message = "";
         if (status.getState() != null &&
             status.getState().getWaiting() != null &&
@@ -63,26 +60,9 @@ public class ImagePullBackOffDetector implements FaultDetector {
             message = status.getState().getWaiting().getMessage();
         }
 
-        // Pod의 owner 정보 추출 (Deployment 관리 여부 확인)
-        String ownerKind = "Pod";  // 기본값: 단독 Pod
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();  // ReplicaSet, StatefulSet, DaemonSet 등
-            ownerName = owner.getName();
-
-            // ReplicaSet인 경우 Deployment로 간주 (일반적인 패턴)
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                // ReplicaSet 이름에서 Deployment 이름 추출 (마지막 해시 제거)
-                // 예: nginx-deployment-5d7f9c8b6f -> nginx-deployment
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        // Pod의 최상위 워크로드 (Deployment, CronJob 등은 owner 그래프로 해석)
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // 에러 메시지에서 구체적인 원인 분류
         String errorCategory = classifyImagePullError(message);
@@ -195,6 +175,11 @@ public class ImagePullBackOffDetector implements FaultDetector {
         return "UNKNOWN";
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.IMAGE_PULL_BACK_OFF;
@@ -25,8 +25,8 @@ public class JobFailedDetector implements FaultDetector {
     private static final Logger log = LoggerFactory.getLogger(JobFailedDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Job".equals(resourceKind);
+    public Set<String> supportedKinds() {
+        return Set.of("Job");
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
@@ -23,48 +24,35 @@ import java.util.Map;
  * 여기서는 Running 상태에서 재시작이 발생한 경우만 감지합니다.
  */
 @Component
-public class LivenessProbeFailureDetector implements FaultDetector {
+public class LivenessProbeFailureDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(LivenessProbeFailureDetector.class);
     private static final int RESTART_THRESHOLD = 1; // 1번 이상 재시작 시 탐지
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
         List<FaultInfo> faults = new ArrayList<>();
 
-        if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+        // Liveness Probe가 설정된 컨테이너가 없으면 검사 안 함
+        if (!facts.anyLivenessProbe()) {
             return faults;
         }
 
-        if (pod.getSpec() == null || pod.getSpec().getContainers() == null) {
-            return faults;
-        }
-
-        for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
+        for (ContainerStatus status : facts.containerStatuses()) {
             // CrashLoopBackOff 상태면 건너뜀 (CrashLoopBackOffDetector가 처리)
             if (isCrashLoopBackOff(status)) {
                 continue;
             }
 
             // 해당 컨테이너에 Liveness Probe가 설정되어 있는지 확인
-            boolean hasLivenessProbe = pod.getSpec().getContainers().stream()
-                .filter(c -> c.getName().equals(status.getName()))
-                .anyMatch(c -> c.getLivenessProbe() != null);
-
-            if (!hasLivenessProbe) {
+            if (!facts.hasLivenessProbe(status.getName())) {
                 continue;
             }
 
             if (isLivenessProbeFailure(status)) {
                 log.info("Detected liveness probe failure for container: {} (restarts: {})",
                         status.getName(), status.getRestartCount());
-                faults.add(createFaultInfo(pod, status));
+                faults.add(createFaultInfo(facts, status));
             }
         }
 
@@ -120,26 +108,13 @@ public class LivenessProbeFailureDetector implements FaultDetector {
         return false;
     }
 
-    private FaultInfo createFaultInfo(Pod pod, ContainerStatus status) {
+    private FaultInfo createFaultInfo(PodFacts facts, ContainerStatus status) {
+        Pod pod = facts.pod();
         Integer restartCount = status.getRestartCount() != null ? status.getRestartCount() : 0;
 
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // Liveness Probe 설정값 추출
         java.util.Map<String, Object> context = new java.util.HashMap<>();
@@ -149,16 +124,11 @@ public class LivenessProbeFailureDetector implements FaultDetector {
         context.put("ownerKind", ownerKind);
         context.put("ownerName", ownerName);
 
-        for (var container : pod.getSpec().getContainers()) {
-            if (container.getName().equals(status.getName()) && container.getLivenessProbe() != null) {
-                var probe = container.getLivenessProbe();
-                if (probe.getFailureThreshold() != null) context.put("failureThreshold", probe.getFailureThreshold());
-                if (probe.getPeriodSeconds() != null) context.put("periodSeconds", probe.getPeriodSeconds());
-                if (probe.getTimeoutSeconds() != null) context.put("timeoutSeconds", probe.getTimeoutSeconds());
-                if (probe.getInitialDelaySeconds() != null) context.put("initialDelaySeconds", probe.getInitialDelaySeconds());
-                break;
-            }
-        }
+        var probe = facts.container(status.getName()).getLivenessProbe();
+        if (probe.getFailureThreshold() != null) context.put("failureThreshold", probe.getFailureThreshold());
+        if (probe.getPeriodSeconds() != null) context.put("periodSeconds", probe.getPeriodSeconds());
+        if (probe.getTimeoutSeconds() != null) context.put("timeoutSeconds", probe.getTimeoutSeconds());
+        if (probe.getInitialDelaySeconds() != null) context.put("initialDelaySeconds", probe.getInitialDelaySeconds());
 
         return FaultInfo.builder()
                 .faultType(FaultType.LIVENESS_PROBE_FAILED)
@@ -180,6 +150,11 @@ public class LivenessProbeFailureDetector implements FaultDetector {
                 .build();
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.LIVENESS_PROBE_FAILED;
@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -23,18 +24,13 @@ import java.util.*;
  * - CNI 플러그인 오류
  */
 @Component
-public class NetworkErrorDetector implements FaultDetector {
+public class NetworkErrorDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(NetworkErrorDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
+        Pod pod = facts.pod();
         List<FaultInfo> faults = new ArrayList<>();
 
         if (pod.getStatus() == null) {
@@ -74,28 +70,26 @@ public class NetworkErrorDetector implements FaultDetector {
             }
 
             if (networkNotReady) {
-                faults.add(createFaultInfo(pod, networkMessage));
+                faults.add(createFaultInfo(facts, networkMessage));
             }
         }
 
         // ContainerStatus에서 네트워크 관련 Waiting 상태 확인
-        if (pod.getStatus().getContainerStatuses() != null) {
-            for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
-                if (status.getState() != null && status.getState().getWaiting() != null) {
-                    String reason = status.getState().getWaiting().getReason();
-                    String message = status.getState().getWaiting().getMessage();
-
-                    if (reason != null && message != null) {
-                        String lowerReason = reason.toLowerCase();
-                        String lowerMessage = message.toLowerCase();
-
-                        // 네트워크/샌드박스 관련 에러
-                        if (lowerReason.contains("network") || lowerReason.contains("cni") ||
-                            lowerReason.contains("sandbox") ||
-                            lowerMessage.contains("network") || lowerMessage.contains("cni") ||
-                            lowerMessage.contains("failed to create pod sandbox")) {
-                            faults.add(createFaultInfo(pod, message));
-                        }
+        for (ContainerStatus status : facts.containerStatuses()) {
+            if (status.getState() != null && status.getState().getWaiting() != null) {
+                String reason = status.getState().getWaiting().getReason();
+                String message = status.getState().getWaiting().getMessage();
+
+                if (reason != null && message != null) {
+                    String lowerReason = reason.toLowerCase();
+                    String lowerMessage = message.toLowerCase();
+
+                    // 네트워크/샌드박스 관련 에러
+                    if (lowerReason.contains("network") || lowerReason.contains("cni") ||
+                        lowerReason.contains("sandbox") ||
+                        lowerMessage.contains("network") || lowerMessage.contains("cni") ||
+                        lowerMessage.contains("failed to create pod sandbox")) {
+                        faults.add(createFaultInfo(facts, message));
                     }
                 }
             }
@@ -104,24 +98,11 @@ public class NetworkErrorDetector implements FaultDetector {
         return faults;
     }
 
-    private FaultInfo createFaultInfo(Pod pod, String errorMessage) {
+    private FaultInfo createFaultInfo(PodFacts facts, String errorMessage) {
+        Pod pod = facts.pod();
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // 이슈 카테고리 분류
         String issueCategory = classifyNetworkError(errorMessage);
@@ -248,6 +229,11 @@ public class NetworkErrorDetector implements FaultDetector {
         return desc.toString();
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.NETWORK_ERROR;
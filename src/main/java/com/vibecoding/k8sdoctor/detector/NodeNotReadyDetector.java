@@ -31,8 +31,8 @@ public class NodeNotReadyDetector implements FaultDetector {
     );
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Node".equals(resourceKind);
+    public Set<String> supportedKinds() {
+        return Set.of("Node");
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodCondition;
@@ -21,43 +22,25 @@ import java.util.stream.Collectors;
  */
 
 @Component
-public class PendingDetector implements FaultDetector {
+public class PendingDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(PendingDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
+        Pod pod = facts.pod();
 
-        if (pod.getStatus() == null || !"Pending".equals(pod.getStatus().getPhase())) {
+        if (!"Pending".equals(facts.phase())) {
             return Collections.emptyList();
         }
 
-        String reason = analyzeReason(pod);
+        PodCondition scheduled = facts.condition("PodScheduled");
+        String reason = analyzeReason(scheduled);
         List<String> symptoms = extractSymptoms(pod);
 
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // context에 더 구체적인 정보 추가
         Map<String, Object> context = new java.util.HashMap<>();
@@ -66,7 +49,7 @@ public class PendingDetector implements FaultDetector {
         context.put("ownerName", ownerName);
 
         // 원본 스케줄링 메시지도 저장 (AI 분석용)
-        String schedulingMessage = getSchedulingMessage(pod);
+        String schedulingMessage = getSchedulingMessage(scheduled);
         if (!schedulingMessage.isEmpty()) {
             context.put("schedulingMessage", schedulingMessage);
         }
@@ -121,76 +104,72 @@ public class PendingDetector implements FaultDetector {
                 .build());
     }
 
-    private String analyzeReason(Pod pod) {
-        if (pod.getStatus().getConditions() != null) {
-            for (PodCondition condition : pod.getStatus().getConditions()) {
-                if ("PodScheduled".equals(condition.getType()) && "False".equals(condition.getStatus())) {
-                    String message = condition.getMessage() != null ? condition.getMessage() : "";
-                    String reason = condition.getReason() != null ? condition.getReason() : "";
-
-                    // PVC 바인딩 문제 감지
-                    if (message.contains("unbound") && message.contains("PersistentVolumeClaim")) {
-                        return "PVC(PersistentVolumeClaim)가 바인딩되지 않음. " +
-                               "StorageClass가 없거나 사용 가능한 PV(PersistentVolume)가 없습니다. " +
-                               "클러스터에 동적 프로비저닝이 설정되어 있는지 확인하세요.";
-                    }
-
-                    // 리소스 부족 감지
-                    if (message.contains("Insufficient") || message.contains("insufficient")) {
-                        if (message.contains("cpu")) {
-                            return "노드에 CPU 리소스가 부족합니다. " +
-                                   "Pod의 CPU 요청량을 줄이거나 클러스터에 노드를 추가하세요.";
-                        } else if (message.contains("memory")) {
-                            return "노드에 메모리 리소스가 부족합니다. " +
-                                   "Pod의 메모리 요청량을 줄이거나 클러스터에 노드를 추가하세요.";
-                        }
-                        return "노드에 리소스가 부족합니다. " + message;
-                    }
-
-                    // Node Selector 문제 감지
-                    if (message.contains("node(s) didn't match") || message.contains("MatchNodeSelector")) {
-                        return "Node Selector 조건과 일치하는 노드가 없습니다. " +
-                               "Pod의 nodeSelector 설정과 노드의 레이블을 확인하세요.";
-                    }
-
-                    // Taints/Tolerations 문제 감지
-                    if (message.contains("taint") || message.contains("toleration")) {
-                        return "노드에 Taint가 설정되어 있어 Pod이 스케줄링되지 않습니다. " +
-                               "Pod에 적절한 Toleration을 추가하거나 노드의 Taint를 제거하세요.";
-                    }
-
-                    // TopologySpreadConstraints 문제 감지
-                    if (message.contains("TopologySpreadConstraints") || message.contains("topology spread")) {
-                        return "TopologySpreadConstraints 조건을 만족할 수 없습니다. " +
-                               "Pod을 분산 배치할 토폴로지 영역(zone, node)이 부족하거나 " +
-                               "maxSkew 제약 조건을 만족할 수 없습니다. " +
-                               "whenUnsatisfiable을 ScheduleAnyway로 변경하거나 노드/영역을 추가하세요.";
-                    }
-
-                    // Pod Anti-Affinity 문제 감지
-                    if (message.contains("anti-affinity") || message.contains("PodAntiAffinity") ||
-                        (message.toLowerCase().contains("affinity") && message.toLowerCase().contains("pod"))) {
-                        return "Pod Anti-Affinity 조건을 만족하는 노드가 없습니다. " +
-                               "같은 레이블의 Pod이 이미 모든 노드에 있어서 스케줄링할 수 없습니다. " +
-                               "노드를 추가하거나 Anti-Affinity 조건을 완화하세요.";
-                    }
-
-                    // Pod Affinity 문제 감지 (Anti-Affinity가 아닌 경우)
-                    if (message.contains("Affinity") || message.contains("affinity")) {
-                        return "Pod Affinity 조건을 만족하는 노드가 없습니다. " +
-                               "Pod의 affinity 설정을 확인하세요.";
-                    }
-
-                    // 기본 메시지 반환
-                    if (!message.isEmpty()) {
-                        return message;
-                    }
-                    if (!reason.isEmpty()) {
-                        return reason;
-                    }
-                    return "Pod 스케줄링 실패";
+    private String analyzeReason(PodCondition condition) {
+        if (condition != null && "False".equals(condition.getStatus())) {
+            String message = condition.getMessage() != null ? condition.getMessage() : "";
+            String reason = condition.getReason() != null ? condition.getReason() : "";
+
+            // PVC 바인딩 문제 감지
+            if (message.contains("unbound") && message.contains("PersistentVolumeClaim")) {
+                return "PVC(PersistentVolumeClaim)가 바인딩되지 않음. " +
+                       "StorageClass가 없거나 사용 가능한 PV(PersistentVolume)가 없습니다. " +
+                       "클러스터에 동적 프로비저닝이 설정되어 있는지 확인하세요.";
+            }
+
+            // 리소스 부족 감지
+            if (message.contains("Insufficient") || message.contains("insufficient")) {
+                if (message.contains("cpu")) {
+                    return "노드에 CPU 리소스가 부족합니다. " +
+                           "Pod의 CPU 요청량을 줄이거나 클러스터에 노드를 추가하세요.";
+                } else if (message.contains("memory")) {
+                    return "노드에 메모리 리소스가 부족합니다. " +
+                           "Pod의 메모리 요청량을 줄이거나 클러스터에 노드를 추가하세요.";
                 }
+                return "노드에 리소스가 부족합니다. " + message;
+            }
+
+            // Node Selector 문제 감지
+            if (message.contains("node(s) didn't match") || message.contains("MatchNodeSelector")) {
+                return "Node Selector 조건과 일치하는 노드가 없습니다. " +
+                       "Pod의 nodeSelector 설정과 노드의 레이블을 확인하세요.";
+            }
+
+            // Taints/Tolerations 문제 감지
+            if (message.contains("taint") || message.contains("toleration")) {
+                return "노드에 Taint가 설정되어 있어 Pod이 스케줄링되지 않습니다. " +
+                       "Pod에 적절한 Toleration을 추가하거나 노드의 Taint를 제거하세요.";
             }
+
+            // TopologySpreadConstraints 문제 감지
+            if (message.contains("TopologySpreadConstraints") || message.contains("topology spread")) {
+                return "TopologySpreadConstraints 조건을 만족할 수 없습니다. " +
+                       "Pod을 분산 배치할 토폴로지 영역(zone, node)이 부족하거나 " +
+                       "maxSkew 제약 조건을 만족할 수 없습니다. " +
+                       "whenUnsatisfiable을 ScheduleAnyway로 변경하거나 노드/영역을 추가하세요.";
+            }
+
+            // Pod Anti-Affinity 문제 감지
+            if (message.contains("anti-affinity") || message.contains("PodAntiAffinity") ||
+                (message.toLowerCase().contains("affinity") && message.toLowerCase().contains("pod"))) {
+                return "Pod Anti-Affinity 조건을 만족하는 노드가 없습니다. " +
+                       "같은 레이블의 Pod이 이미 모든 노드에 있어서 스케줄링할 수 없습니다. " +
+                       "노드를 추가하거나 Anti-Affinity 조건을 완화하세요.";
+            }
+
+            // Pod Affinity 문제 감지 (Anti-Affinity가 아닌 경우)
+            if (message.contains("Affinity") || message.contains("affinity")) {
+                return "Pod Affinity 조건을 만족하는 노드가 없습니다. " +
+                       "Pod의 affinity 설정을 확인하세요.";
+            }
+
+            // 기본 메시지 반환
+            if (!message.isEmpty()) {
+                return message;
+            }
+            if (!reason.isEmpty()) {
+                return reason;
+            }
+            return "Pod 스케줄링 실패";
         }
         return "알 수 없는 이유로 스케줄링 실패. 리소스 부족이나 노드 선택 제약 조건을 확인하세요.";
     }
@@ -212,17 +191,18 @@ public class PendingDetector implements FaultDetector {
     /**
      * PodScheduled condition에서 원본 메시지 추출 (AI 분석용)
      */
-    private String getSchedulingMessage(Pod pod) {
-        if (pod.getStatus() != null && pod.getStatus().getConditions() != null) {
-            for (PodCondition condition : pod.getStatus().getConditions()) {
-                if ("PodScheduled".equals(condition.getType()) && "False".equals(condition.getStatus())) {
-                    return condition.getMessage() != null ? condition.getMessage() : "";
-                }
-            }
+    private String getSchedulingMessage(PodCondition condition) {
+        if (condition != null && "False".equals(condition.getStatus())) {
+            return condition.getMessage() != null ? condition.getMessage() : "";
         }
         return "";
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.PENDING;
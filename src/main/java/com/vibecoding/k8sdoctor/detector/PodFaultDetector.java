@@ -0,0 +1,49 @@
+package com.vibecoding.k8sdoctor.detector;
+
+import com.vibecoding.k8sdoctor.model.FaultInfo;
+import com.vibecoding.k8sdoctor.model.PodFacts;
+import com.vibecoding.k8sdoctor.repository.OwnerGraph;
+import io.fabric8.kubernetes.api.model.Pod;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pod 장애 탐지기
+ * - FaultClassificationService가 Pod마다 한 번 만든 PodFacts를 받아 탐지
+ */
+public interface PodFaultDetector extends FaultDetector {
+
+    @Override
+    default Set<String> supportedKinds() {
+        return Set.of("Pod");
+    }
+
+    /**
+     * 사전 분석된 Pod에서 장애를 탐지
+     */
+    List<FaultInfo> detect(String clusterId, PodFacts facts);
+
+    /**
+     * 정상 Pod(FaultClassificationService.isHealthy 통과)에서 장애를 보고하지 않는 탐지기인지
+     * - 등록된 Pod 탐지기가 모두 true일 때만 정상 Pod은 탐지기를 건너뜀
+     * - HealthyPodFastPathTest가 등록된 모든 Pod 탐지기에 대해 정상 Pod에서 장애가 없는지 확인
+     *   (새 탐지기가 정상 Pod에서 장애를 보고하면 테스트가 실패하므로 isHealthy 조건을 함께 조정)
+     */
+    default boolean ignoresHealthyPods() {
+        return false;
+    }
+
+    /**
+     * PodFacts 없이 호출된 경우 (owner는 ownerReference + ReplicaSet 이름 규칙으로 추정)
+     */
+    @Override
+    default List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
+        if (resource instanceof PodFacts facts) {
+            return detect(clusterId, facts);
+        }
+        Pod pod = (Pod) resource;
+        OwnerGraph.Owner owner = new OwnerGraph().resolveOrGuess(pod);
+        return detect(clusterId, PodFacts.of(pod, owner.kind(), owner.name()));
+    }
+}
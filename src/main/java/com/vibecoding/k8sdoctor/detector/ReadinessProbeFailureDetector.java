@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -19,43 +20,27 @@ import java.util.Map;
  * Readiness Probe 실패 탐지기
  */
 @Component
-public class ReadinessProbeFailureDetector implements FaultDetector {
+public class ReadinessProbeFailureDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(ReadinessProbeFailureDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
         List<FaultInfo> faults = new ArrayList<>();
 
         // Pod이 Running 상태가 아니면 검사 안 함
-        if (pod.getStatus() == null || !"Running".equals(pod.getStatus().getPhase())) {
+        if (!"Running".equals(facts.phase())) {
             return faults;
         }
 
-        if (pod.getStatus().getContainerStatuses() == null) {
-            return faults;
-        }
-
-        // Readiness Probe 설정 확인
-        boolean hasReadinessProbe = pod.getSpec() != null &&
-                                   pod.getSpec().getContainers() != null &&
-                                   pod.getSpec().getContainers().stream()
-                                       .anyMatch(c -> c.getReadinessProbe() != null);
-
-        if (!hasReadinessProbe) {
+        if (!facts.anyReadinessProbe()) {
             return faults; // Readiness Probe가 없으면 검사 안 함
         }
 
-        for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
+        for (ContainerStatus status : facts.containerStatuses()) {
             if (isReadinessProbeFailure(status)) {
                 log.info("Detected readiness probe failure for container: {}", status.getName());
-                faults.add(createFaultInfo(pod, status));
+                faults.add(createFaultInfo(facts, status));
             }
         }
 
@@ -75,24 +60,11 @@ public class ReadinessProbeFailureDetector implements FaultDetector {
         return false;
     }
 
-    private FaultInfo createFaultInfo(Pod pod, ContainerStatus status) {
+    private FaultInfo createFaultInfo(PodFacts facts, ContainerStatus status) {
+        Pod pod = facts.pod();
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         return FaultInfo.builder()
                 .faultType(FaultType.READINESS_PROBE_FAILED)
@@ -120,6 +92,11 @@ public class ReadinessProbeFailureDetector implements FaultDetector {
                 .build();
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.READINESS_PROBE_FAILED;
@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * ReplicaSet 가용성 장애 탐지기
@@ -25,8 +26,8 @@ public class ReplicaSetUnavailableDetector implements FaultDetector {
     private static final Logger log = LoggerFactory.getLogger(ReplicaSetUnavailableDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "ReplicaSet".equals(resourceKind);
+    public Set<String> supportedKinds() {
+        return Set.of("ReplicaSet");
     }
 
     @Override
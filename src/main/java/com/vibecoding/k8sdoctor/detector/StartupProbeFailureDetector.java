@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -20,40 +21,23 @@ import java.util.*;
  * Liveness/Readiness Probe는 Startup Probe가 성공한 후에만 실행됩니다.
  */
 @Component
-public class StartupProbeFailureDetector implements FaultDetector {
+public class StartupProbeFailureDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(StartupProbeFailureDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
         List<FaultInfo> faults = new ArrayList<>();
 
-        if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
-            return faults;
-        }
-
-        // Startup Probe 설정 확인
-        if (pod.getSpec() == null || pod.getSpec().getContainers() == null) {
+        // Startup Probe가 설정된 컨테이너가 없으면 검사 안 함
+        if (!facts.anyStartupProbe()) {
             return faults;
         }
 
         // 각 컨테이너별 Startup Probe 확인
-        for (var container : pod.getSpec().getContainers()) {
-            if (container.getStartupProbe() == null) {
-                continue;
-            }
-
-            // 해당 컨테이너의 상태 찾기
-            for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
-                if (status.getName().equals(container.getName()) && isStartupProbeFailure(status)) {
-                    faults.add(createFaultInfo(pod, status, container.getStartupProbe()));
-                }
+        for (ContainerStatus status : facts.containerStatuses()) {
+            if (facts.hasStartupProbe(status.getName()) && isStartupProbeFailure(status)) {
+                faults.add(createFaultInfo(facts, status, facts.container(status.getName()).getStartupProbe()));
             }
         }
 
@@ -87,27 +71,14 @@ public class StartupProbeFailureDetector implements FaultDetector {
         return false;
     }
 
-    private FaultInfo createFaultInfo(Pod pod, ContainerStatus status,
+    private FaultInfo createFaultInfo(PodFacts facts, ContainerStatus status,
                                       io.fabric8.kubernetes.api.model.Probe startupProbe) {
+        Pod pod = facts.pod();
         int restartCount = status.getRestartCount() != null ? status.getRestartCount() : 0;
 
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // Probe 설정 정보 추출
         Map<String, Object> context = new HashMap<>();
@@ -151,6 +122,11 @@ public class StartupProbeFailureDetector implements FaultDetector {
                 .build();
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.STARTUP_PROBE_FAILED;
@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.Pod;
 import org.slf4j.Logger;
@@ -10,7 +11,6 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
 
 /**
@@ -23,7 +23,7 @@ import java.util.*;
  * - Pod가 graceful shutdown 실패
  */
 @Component
-public class TerminatingStuckDetector implements FaultDetector {
+public class TerminatingStuckDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(TerminatingStuckDetector.class);
 
@@ -31,58 +31,32 @@ public class TerminatingStuckDetector implements FaultDetector {
     private static final int STUCK_THRESHOLD_MINUTES = 5;
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
         List<FaultInfo> faults = new ArrayList<>();
 
-        // deletionTimestamp가 있으면 Terminating 상태
-        if (pod.getMetadata().getDeletionTimestamp() == null) {
+        // deletionTimestamp가 있으면 Terminating 상태 (경과 시간은 PodFacts에서 계산)
+        Duration stuckDuration = facts.deletionAge();
+        if (!facts.terminating() || stuckDuration == null) {
             return faults;
         }
 
-        // 삭제 요청 시간 계산
-        String deletionTimestamp = pod.getMetadata().getDeletionTimestamp();
-        LocalDateTime deletionTime = LocalDateTime.parse(
-            deletionTimestamp.replace("Z", "")
-        );
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
-        Duration stuckDuration = Duration.between(deletionTime, now);
-
         // 5분 이상 Terminating 상태면 stuck으로 판단
         if (stuckDuration.toMinutes() >= STUCK_THRESHOLD_MINUTES) {
-            faults.add(createFaultInfo(pod, stuckDuration));
+            faults.add(createFaultInfo(facts, stuckDuration));
         }
 
         return faults;
     }
 
-    private FaultInfo createFaultInfo(Pod pod, Duration stuckDuration) {
+    private FaultInfo createFaultInfo(PodFacts facts, Duration stuckDuration) {
+        Pod pod = facts.pod();
         // Finalizer 확인
         List<String> finalizers = pod.getMetadata().getFinalizers();
         boolean hasFinalizers = finalizers != null && !finalizers.isEmpty();
 
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // 이슈 카테고리 분류
         String issueCategory = classifyIssue(pod, hasFinalizers, finalizers);
@@ -207,6 +181,18 @@ public class TerminatingStuckDetector implements FaultDetector {
         return desc.toString();
     }
 
+    @Override
+    public boolean isTimeDependent(Object resource) {
+        // 삭제 중인 Pod만 경과 시간에 따라 결과가 바뀜
+        Pod pod = resource instanceof PodFacts facts ? facts.pod() : (Pod) resource;
+        return pod.getMetadata() != null && pod.getMetadata().getDeletionTimestamp() != null;
+    }
+
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.TERMINATING_STUCK;
@@ -2,6 +2,7 @@ package com.vibecoding.k8sdoctor.detector;
 
 import com.vibecoding.k8sdoctor.model.FaultInfo;
 import com.vibecoding.k8sdoctor.model.FaultType;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -24,18 +25,13 @@ import java.util.*;
  * - CSI driver 마운트 실패
  */
 @Component
-public class VolumeMountErrorDetector implements FaultDetector {
+public class VolumeMountErrorDetector implements PodFaultDetector {
 
     private static final Logger log = LoggerFactory.getLogger(VolumeMountErrorDetector.class);
 
     @Override
-    public boolean canDetect(String resourceKind) {
-        return "Pod".equals(resourceKind);
-    }
-
-    @Override
-    public List<FaultInfo> detect(String clusterId, String namespace, Object resource) {
-        Pod pod = (Pod) resource;
+    public List<FaultInfo> detect(String clusterId, PodFacts facts) {
+        Pod pod = facts.pod();
         List<FaultInfo> faults = new ArrayList<>();
 
         if (pod.getStatus() == null) {
@@ -50,7 +46,7 @@ public class VolumeMountErrorDetector implements FaultDetector {
 
                     // 볼륨 마운트 오류 키워드 확인
                     if (isVolumeMountError(message)) {
-                        faults.add(createFaultInfo(pod, condition.getMessage(), condition.getReason()));
+                        faults.add(createFaultInfo(facts, condition.getMessage(), condition.getReason()));
                         break;
                     }
                 }
@@ -58,31 +54,27 @@ public class VolumeMountErrorDetector implements FaultDetector {
         }
 
         // ContainerStatus에서 볼륨 관련 Waiting 상태 확인
-        if (pod.getStatus().getContainerStatuses() != null) {
-            for (ContainerStatus status : pod.getStatus().getContainerStatuses()) {
-                if (status.getState() != null && status.getState().getWaiting() != null) {
-                    String message = status.getState().getWaiting().getMessage();
-                    String reason = status.getState().getWaiting().getReason();
-
-                    if (message != null && isVolumeMountError(message.toLowerCase())) {
-                        faults.add(createFaultInfo(pod, message, reason));
-                        break;
-                    }
+        for (ContainerStatus status : facts.containerStatuses()) {
+            if (status.getState() != null && status.getState().getWaiting() != null) {
+                String message = status.getState().getWaiting().getMessage();
+                String reason = status.getState().getWaiting().getReason();
+
+                if (message != null && isVolumeMountError(message.toLowerCase())) {
+                    faults.add(createFaultInfo(facts, message, reason));
+                    break;
                 }
             }
         }
 
         // initContainerStatuses도 확인
-        if (pod.getStatus().getInitContainerStatuses() != null) {
-            for (ContainerStatus status : pod.getStatus().getInitContainerStatuses()) {
-                if (status.getState() != null && status.getState().getWaiting() != null) {
-                    String message = status.getState().getWaiting().getMessage();
-                    String reason = status.getState().getWaiting().getReason();
-
-                    if (message != null && isVolumeMountError(message.toLowerCase())) {
-                        faults.add(createFaultInfo(pod, message, reason));
-                        break;
-                    }
+        for (ContainerStatus status : facts.initContainerStatuses()) {
+            if (status.getState() != null && status.getState().getWaiting() != null) {
+                String message = status.getState().getWaiting().getMessage();
+                String reason = status.getState().getWaiting().getReason();
+
+                if (message != null && isVolumeMountError(message.toLowerCase())) {
+                    faults.add(createFaultInfo(facts, message, reason));
+                    break;
                 }
             }
         }
@@ -107,24 +99,11 @@ public class VolumeMountErrorDetector implements FaultDetector {
                (message.contains("csi") && message.contains("mount"));
     }
 
-    private FaultInfo createFaultInfo(Pod pod, String errorMessage, String reason) {
+    private FaultInfo createFaultInfo(PodFacts facts, String errorMessage, String reason) {
+        Pod pod = facts.pod();
         // Pod의 owner 정보 추출
-        String ownerKind = "Pod";
-        String ownerName = pod.getMetadata().getName();
-
-        if (pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            var owner = pod.getMetadata().getOwnerReferences().get(0);
-            ownerKind = owner.getKind();
-            ownerName = owner.getName();
-
-            if ("ReplicaSet".equals(ownerKind)) {
-                ownerKind = "Deployment";
-                int lastDash = ownerName.lastIndexOf('-');
-                if (lastDash > 0) {
-                    ownerName = ownerName.substring(0, lastDash);
-                }
-            }
-        }
+        String ownerKind = facts.ownerKind();
+        String ownerName = facts.ownerName();
 
         // 이슈 카테고리 분류
         String issueCategory = classifyVolumeMountError(errorMessage);
@@ -270,6 +249,11 @@ public class VolumeMountErrorDetector implements FaultDetector {
         return desc.toString();
     }
 
+    @Override
+    public boolean ignoresHealthyPods() {
+        return true;
+    }
+
     @Override
     public FaultType getFaultType() {
         return FaultType.VOLUME_MOUNT_ERROR;
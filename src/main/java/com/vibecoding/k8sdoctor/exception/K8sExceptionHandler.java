@@ -30,6 +30,16 @@ public class K8sExceptionHandler {
         return "error/error";
     }
 
+    @ExceptionHandler(K8sThrottledException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleK8sThrottled(K8sThrottledException ex, Model model) {
+        log.warn("Kubernetes API throttled: {}", ex.getMessage());
+        model.addAttribute("error", "클러스터 API 요청이 많아 잠시 후 다시 시도해 주세요: " + ex.getMessage());
+        model.addAttribute("status", 503);
+        model.addAttribute("title", "요청 제한");
+        return "error/error";
+    }
+
     @ExceptionHandler(K8sApiException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public String handleK8sApiException(K8sApiException ex, Model model) {
@@ -0,0 +1,11 @@
+package com.vibecoding.k8sdoctor.exception;
+
+/**
+ * 클러스터별 동시 요청 한도 초과로 API 호출을 보내지 못했을 때 발생하는 예외
+ */
+public class K8sThrottledException extends K8sApiException {
+
+    public K8sThrottledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.vibecoding.k8sdoctor.model;
+
+/**
+ * 클러스터 클라이언트 준비 상태 (인메모리)
+ */
+public enum ClusterReadiness {
+    NOT_STARTED,    // 초기화 시작 전
+    INITIALIZING,   // 초기화 중
+    READY,          // 클라이언트 사용 가능
+    FAILED          // 초기화 실패 (다음 조회 시 재시도)
+}
@@ -22,6 +22,7 @@ public class FaultInfo {
     private String resourceKind;      // Pod, Deployment, Node
     private String namespace;
     private String resourceName;
+    private String resourceUid;       // 장애가 난 오브젝트의 uid (이벤트 조회 시 같은 이름의 이전 오브젝트와 구분)
     private String summary;           // 한 줄 요약
     private String description;       // 상세 설명
     private List<String> symptoms;    // 증상 목록
@@ -0,0 +1,35 @@
+package com.vibecoding.k8sdoctor.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장애 감시 엔진이 유지하는 장애 (열린 시각 / 해결 시각)
+ * - 같은 리소스(uid)의 같은 장애(유형 + 컨테이너)는 다시 탐지되어도 openedAt을 유지
+ * - resolvedAt이 null이면 아직 열린 장애
+ */
+public record LiveFault(
+    String clusterId,
+    String uid,
+    FaultInfo fault,
+    LocalDateTime openedAt,
+    LocalDateTime resolvedAt
+) {
+
+    public boolean isOpen() {
+        return resolvedAt == null;
+    }
+
+    /**
+     * 다시 탐지된 장애 내용으로 갱신 (열린 시각 유지)
+     */
+    public LiveFault withFault(FaultInfo latest) {
+        return new LiveFault(clusterId, uid, latest, openedAt, null);
+    }
+
+    /**
+     * 해결 처리
+     */
+    public LiveFault resolve(LocalDateTime at) {
+        return new LiveFault(clusterId, uid, fault, openedAt, at);
+    }
+}
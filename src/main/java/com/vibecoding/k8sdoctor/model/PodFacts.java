@@ -0,0 +1,189 @@
+package com.vibecoding.k8sdoctor.model;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodCondition;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.PodStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pod 탐지기들이 공유하는 Pod 사전 분석 결과
+ * - Pod 하나당 한 번만 만들고 모든 Pod 탐지기에 같은 객체를 전달
+ * - spec/status를 한 번 순회해 컨테이너(spec), probe 유무, waiting/terminated reason, condition을 미리 정리
+ * - owner는 호출 측에서 한 번만 해석해 전달 (탐지기마다 owner 그래프를 조회하지 않음)
+ */
+public record PodFacts(
+    Pod pod,
+    String ownerKind,
+    String ownerName,
+    String phase,
+    boolean terminating,
+    Duration deletionAge,
+    List<ContainerStatus> containerStatuses,
+    List<ContainerStatus> initContainerStatuses,
+    Map<String, Container> containersByName,
+    Set<String> waitingReasons,
+    Set<String> terminatedReasons,
+    Set<String> lastTerminatedReasons,
+    Map<String, PodCondition> conditionsByType,
+    boolean anyLivenessProbe,
+    boolean anyReadinessProbe,
+    boolean anyStartupProbe
+) {
+
+    /**
+     * Pod 분석 (spec/status 한 번 순회)
+     */
+    public static PodFacts of(Pod pod, String ownerKind, String ownerName) {
+        PodSpec spec = pod.getSpec();
+        PodStatus status = pod.getStatus();
+
+        Map<String, Container> containersByName = new HashMap<>();
+        boolean anyLivenessProbe = false;
+        boolean anyReadinessProbe = false;
+        boolean anyStartupProbe = false;
+        if (spec != null) {
+            if (spec.getInitContainers() != null) {
+                for (Container container : spec.getInitContainers()) {
+                    containersByName.put(container.getName(), container);
+                }
+            }
+            // probe 유무는 일반 컨테이너 기준 (기존 탐지기와 동일)
+            if (spec.getContainers() != null) {
+                for (Container container : spec.getContainers()) {
+                    containersByName.put(container.getName(), container);
+                    anyLivenessProbe |= container.getLivenessProbe() != null;
+                    anyReadinessProbe |= container.getReadinessProbe() != null;
+                    anyStartupProbe |= container.getStartupProbe() != null;
+                }
+            }
+        }
+
+        List<ContainerStatus> containerStatuses = List.of();
+        List<ContainerStatus> initContainerStatuses = List.of();
+        Set<String> waitingReasons = new HashSet<>();
+        Set<String> terminatedReasons = new HashSet<>();
+        Set<String> lastTerminatedReasons = new HashSet<>();
+        Map<String, PodCondition> conditionsByType = new HashMap<>();
+        String phase = null;
+
+        if (status != null) {
+            phase = status.getPhase();
+            if (status.getContainerStatuses() != null) {
+                containerStatuses = status.getContainerStatuses();
+                collectReasons(containerStatuses, waitingReasons, terminatedReasons, lastTerminatedReasons);
+            }
+            if (status.getInitContainerStatuses() != null) {
+                initContainerStatuses = status.getInitContainerStatuses();
+                collectReasons(initContainerStatuses, waitingReasons, terminatedReasons, lastTerminatedReasons);
+            }
+            if (status.getConditions() != null) {
+                for (PodCondition condition : status.getConditions()) {
+                    conditionsByType.putIfAbsent(condition.getType(), condition);
+                }
+            }
+        }
+
+        String deletionTimestamp = pod.getMetadata() != null ? pod.getMetadata().getDeletionTimestamp() : null;
+
+        return new PodFacts(
+            pod,
+            ownerKind,
+            ownerName,
+            phase,
+            deletionTimestamp != null,
+            deletionAge(deletionTimestamp),
+            containerStatuses,
+            initContainerStatuses,
+            containersByName,
+            waitingReasons,
+            terminatedReasons,
+            lastTerminatedReasons,
+            conditionsByType,
+            anyLivenessProbe,
+            anyReadinessProbe,
+            anyStartupProbe
+        );
+    }
+
+    private static void collectReasons(List<ContainerStatus> statuses, Set<String> waiting,
+                                       Set<String> terminated, Set<String> lastTerminated) {
+        for (ContainerStatus status : statuses) {
+            if (status.getState() != null) {
+                if (status.getState().getWaiting() != null && status.getState().getWaiting().getReason() != null) {
+                    waiting.add(status.getState().getWaiting().getReason());
+                }
+                if (status.getState().getTerminated() != null && status.getState().getTerminated().getReason() != null) {
+                    terminated.add(status.getState().getTerminated().getReason());
+                }
+            }
+            if (status.getLastState() != null && status.getLastState().getTerminated() != null
+                    && status.getLastState().getTerminated().getReason() != null) {
+                lastTerminated.add(status.getLastState().getTerminated().getReason());
+            }
+        }
+    }
+
+    private static Duration deletionAge(String deletionTimestamp) {
+        if (deletionTimestamp == null) {
+            return null;
+        }
+        try {
+            return Duration.between(Instant.parse(deletionTimestamp), Instant.now());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 이름으로 컨테이너 spec 조회 (init 컨테이너 포함, 없으면 null)
+     */
+    public Container container(String name) {
+        return containersByName.get(name);
+    }
+
+    public boolean hasLivenessProbe(String containerName) {
+        Container container = container(containerName);
+        return container != null && container.getLivenessProbe() != null;
+    }
+
+    public boolean hasStartupProbe(String containerName) {
+        Container container = container(containerName);
+        return container != null && container.getStartupProbe() != null;
+    }
+
+    /**
+     * 컨테이너(init 포함) 중 하나라도 해당 reason으로 Waiting 중인지
+     */
+    public boolean hasWaitingReason(String reason) {
+        return waitingReasons.contains(reason);
+    }
+
+    /**
+     * 컨테이너(init 포함) 중 하나라도 직전 종료 reason이 해당 값인지
+     */
+    public boolean hasLastTerminatedReason(String reason) {
+        return lastTerminatedReasons.contains(reason);
+    }
+
+    /**
+     * 타입으로 Pod condition 조회 (없으면 null)
+     */
+    public PodCondition condition(String type) {
+        return conditionsByType.get(type);
+    }
+
+    public boolean hasStatus() {
+        return pod.getStatus() != null;
+    }
+}
@@ -0,0 +1,400 @@
+package com.vibecoding.k8sdoctor.model;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerState;
+import io.fabric8.kubernetes.api.model.ContainerStateRunning;
+import io.fabric8.kubernetes.api.model.ContainerStateTerminated;
+import io.fabric8.kubernetes.api.model.ContainerStateWaiting;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodCondition;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.PodStatus;
+import io.fabric8.kubernetes.api.model.Probe;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 장애 탐지와 목록 화면에 필요한 필드만 담은 Pod 스냅샷 (불변)
+ * - 수집 시점에 fabric8 Pod에서 한 번만 추출해 Informer store에 보관 (PodSnapshotItemStore)
+ * - managedFields, annotations, volumes, env, 컨테이너 command/args 등은 보관하지 않음
+ * - 조회 시 toPod()로 같은 필드만 채운 Pod을 만들어 탐지기/화면에 전달
+ */
+public record PodSnapshot(
+    String uid,
+    String namespace,
+    String name,
+    String resourceVersion,
+    String creationTimestamp,
+    String deletionTimestamp,
+    Long deletionGracePeriodSeconds,
+    List<String> finalizers,
+    Map<String, String> labels,
+    List<Owner> owners,
+    String nodeName,
+    String phase,
+    String reason,
+    String message,
+    String podIP,
+    String hostIP,
+    String qosClass,
+    String startTime,
+    List<Condition> conditions,
+    List<ContainerSpec> initContainers,
+    List<ContainerSpec> containers,
+    List<ContainerStatusSnapshot> initContainerStatuses,
+    List<ContainerStatusSnapshot> containerStatuses
+) {
+
+    /**
+     * ownerReference
+     */
+    public record Owner(String apiVersion, String kind, String name, String uid, Boolean controller) {
+    }
+
+    /**
+     * Pod condition (PodScheduled, Ready 등)
+     */
+    public record Condition(String type, String status, String reason, String message, String lastTransitionTime) {
+    }
+
+    /**
+     * Probe 설정 (handler 종류는 보관하지 않음)
+     */
+    public record ProbeSnapshot(Integer initialDelaySeconds, Integer periodSeconds,
+                                Integer timeoutSeconds, Integer failureThreshold) {
+
+        static ProbeSnapshot of(Probe probe) {
+            if (probe == null) {
+                return null;
+            }
+            return new ProbeSnapshot(probe.getInitialDelaySeconds(), probe.getPeriodSeconds(),
+                probe.getTimeoutSeconds(), probe.getFailureThreshold());
+        }
+
+        Probe toProbe() {
+            Probe probe = new Probe();
+            probe.setInitialDelaySeconds(initialDelaySeconds);
+            probe.setPeriodSeconds(periodSeconds);
+            probe.setTimeoutSeconds(timeoutSeconds);
+            probe.setFailureThreshold(failureThreshold);
+            return probe;
+        }
+    }
+
+    /**
+     * 컨테이너 spec 일부 (이름, 이미지, probe, requests/limits)
+     */
+    public record ContainerSpec(
+        String name,
+        String image,
+        ProbeSnapshot livenessProbe,
+        ProbeSnapshot readinessProbe,
+        ProbeSnapshot startupProbe,
+        Map<String, String> requests,
+        Map<String, String> limits
+    ) {
+
+        static ContainerSpec of(Container container, UnaryOperator<String> interner) {
+            ResourceRequirements resources = container.getResources();
+            return new ContainerSpec(
+                interner.apply(container.getName()),
+                interner.apply(container.getImage()),
+                ProbeSnapshot.of(container.getLivenessProbe()),
+                ProbeSnapshot.of(container.getReadinessProbe()),
+                ProbeSnapshot.of(container.getStartupProbe()),
+                quantities(resources != null ? resources.getRequests() : null, interner),
+                quantities(resources != null ? resources.getLimits() : null, interner)
+            );
+        }
+
+        Container toContainer() {
+            Container container = new Container();
+            container.setName(name);
+            container.setImage(image);
+            container.setLivenessProbe(livenessProbe != null ? livenessProbe.toProbe() : null);
+            container.setReadinessProbe(readinessProbe != null ? readinessProbe.toProbe() : null);
+            container.setStartupProbe(startupProbe != null ? startupProbe.toProbe() : null);
+            if (requests != null || limits != null) {
+                ResourceRequirements resources = new ResourceRequirements();
+                resources.setRequests(toQuantities(requests));
+                resources.setLimits(toQuantities(limits));
+                container.setResources(resources);
+            }
+            return container;
+        }
+    }
+
+    /**
+     * 컨테이너 종료 상태
+     */
+    public record Terminated(String reason, String message, Integer exitCode, String finishedAt) {
+
+        static Terminated of(ContainerStateTerminated terminated) {
+            if (terminated == null) {
+                return null;
+            }
+            return new Terminated(terminated.getReason(), terminated.getMessage(),
+                terminated.getExitCode(), terminated.getFinishedAt());
+        }
+
+        ContainerStateTerminated toState() {
+            ContainerStateTerminated terminated = new ContainerStateTerminated();
+            terminated.setReason(reason);
+            terminated.setMessage(message);
+            terminated.setExitCode(exitCode);
+            terminated.setFinishedAt(finishedAt);
+            return terminated;
+        }
+    }
+
+    /**
+     * 컨테이너 상태 (현재 running/waiting/terminated 중 하나 + 직전 종료)
+     */
+    public record ContainerStatusSnapshot(
+        String name,
+        String image,
+        Boolean ready,
+        Boolean started,
+        Integer restartCount,
+        boolean running,
+        String runningStartedAt,
+        boolean waiting,
+        String waitingReason,
+        String waitingMessage,
+        Terminated terminated,
+        Terminated lastTerminated
+    ) {
+
+        static ContainerStatusSnapshot of(ContainerStatus status, UnaryOperator<String> interner) {
+            ContainerState state = status.getState();
+            ContainerStateRunning running = state != null ? state.getRunning() : null;
+            ContainerStateWaiting waiting = state != null ? state.getWaiting() : null;
+
+            return new ContainerStatusSnapshot(
+                interner.apply(status.getName()),
+                interner.apply(status.getImage()),
+                status.getReady(),
+                status.getStarted(),
+                status.getRestartCount(),
+                running != null,
+                running != null ? running.getStartedAt() : null,
+                waiting != null,
+                waiting != null ? interner.apply(waiting.getReason()) : null,
+                waiting != null ? waiting.getMessage() : null,
+                state != null ? Terminated.of(state.getTerminated()) : null,
+                status.getLastState() != null ? Terminated.of(status.getLastState().getTerminated()) : null
+            );
+        }
+
+        ContainerStatus toStatus() {
+            ContainerStatus status = new ContainerStatus();
+            status.setName(name);
+            status.setImage(image);
+            status.setReady(ready);
+            status.setStarted(started);
+            status.setRestartCount(restartCount);
+
+            // 원본에 상태가 없으면 null 유지
+            ContainerState state = null;
+            if (running || waiting || terminated != null) {
+                state = new ContainerState();
+            }
+            if (running) {
+                ContainerStateRunning runningState = new ContainerStateRunning();
+                runningState.setStartedAt(runningStartedAt);
+                state.setRunning(runningState);
+            }
+            if (waiting) {
+                ContainerStateWaiting waitingState = new ContainerStateWaiting();
+                waitingState.setReason(waitingReason);
+                waitingState.setMessage(waitingMessage);
+                state.setWaiting(waitingState);
+            }
+            if (terminated != null) {
+                state.setTerminated(terminated.toState());
+            }
+            status.setState(state);
+
+            if (lastTerminated != null) {
+                ContainerState lastState = new ContainerState();
+                lastState.setTerminated(lastTerminated.toState());
+                status.setLastState(lastState);
+            }
+            return status;
+        }
+    }
+
+    /**
+     * fabric8 Pod에서 스냅샷 생성
+     */
+    public static PodSnapshot of(Pod pod) {
+        return of(pod, UnaryOperator.identity());
+    }
+
+    /**
+     * fabric8 Pod에서 스냅샷 생성 (반복되는 문자열은 interner 인스턴스로 교체)
+     */
+    public static PodSnapshot of(Pod pod, UnaryOperator<String> interner) {
+        ObjectMeta metadata = pod.getMetadata() != null ? pod.getMetadata() : new ObjectMeta();
+        PodSpec spec = pod.getSpec();
+        PodStatus status = pod.getStatus();
+
+        Map<String, String> labels = null;
+        if (metadata.getLabels() != null) {
+            labels = new LinkedHashMap<>(metadata.getLabels().size() * 2);
+            for (Map.Entry<String, String> entry : metadata.getLabels().entrySet()) {
+                labels.put(interner.apply(entry.getKey()), interner.apply(entry.getValue()));
+            }
+            labels = Collections.unmodifiableMap(labels);
+        }
+
+        return new PodSnapshot(
+            metadata.getUid(),
+            interner.apply(metadata.getNamespace()),
+            metadata.getName(),
+            metadata.getResourceVersion(),
+            metadata.getCreationTimestamp(),
+            metadata.getDeletionTimestamp(),
+            metadata.getDeletionGracePeriodSeconds(),
+            copy(metadata.getFinalizers(), interner::apply),
+            labels,
+            copy(metadata.getOwnerReferences(), owner -> new Owner(interner.apply(owner.getApiVersion()),
+                interner.apply(owner.getKind()), owner.getName(), owner.getUid(), owner.getController())),
+            spec != null ? interner.apply(spec.getNodeName()) : null,
+            status != null ? interner.apply(status.getPhase()) : null,
+            status != null ? interner.apply(status.getReason()) : null,
+            status != null ? status.getMessage() : null,
+            status != null ? status.getPodIP() : null,
+            status != null ? interner.apply(status.getHostIP()) : null,
+            status != null ? interner.apply(status.getQosClass()) : null,
+            status != null ? status.getStartTime() : null,
+            copy(status != null ? status.getConditions() : null, condition -> new Condition(
+                interner.apply(condition.getType()), interner.apply(condition.getStatus()),
+                interner.apply(condition.getReason()), condition.getMessage(), condition.getLastTransitionTime())),
+            copy(spec != null ? spec.getInitContainers() : null, container -> ContainerSpec.of(container, interner)),
+            copy(spec != null ? spec.getContainers() : null, container -> ContainerSpec.of(container, interner)),
+            copy(status != null ? status.getInitContainerStatuses() : null,
+                container -> ContainerStatusSnapshot.of(container, interner)),
+            copy(status != null ? status.getContainerStatuses() : null,
+                container -> ContainerStatusSnapshot.of(container, interner))
+        );
+    }
+
+    /**
+     * 스냅샷 필드만 채운 fabric8 Pod 생성 (호출할 때마다 새 객체 - 호출자가 수정해도 스냅샷은 바뀌지 않음)
+     * - 원본에 없던 목록/맵 필드는 null로 유지 (원본과 같은 null 검사 결과)
+     */
+    public Pod toPod() {
+        ObjectMeta metadata = new ObjectMeta();
+        metadata.setUid(uid);
+        metadata.setNamespace(namespace);
+        metadata.setName(name);
+        metadata.setResourceVersion(resourceVersion);
+        metadata.setCreationTimestamp(creationTimestamp);
+        metadata.setDeletionTimestamp(deletionTimestamp);
+        metadata.setDeletionGracePeriodSeconds(deletionGracePeriodSeconds);
+        metadata.setFinalizers(finalizers != null ? new ArrayList<>(finalizers) : null);
+        metadata.setLabels(labels != null ? new LinkedHashMap<>(labels) : null);
+        metadata.setOwnerReferences(toList(owners, owner -> {
+            OwnerReference reference = new OwnerReference();
+            reference.setApiVersion(owner.apiVersion());
+            reference.setKind(owner.kind());
+            reference.setName(owner.name());
+            reference.setUid(owner.uid());
+            reference.setController(owner.controller());
+            return reference;
+        }));
+
+        PodSpec spec = new PodSpec();
+        spec.setNodeName(nodeName);
+        spec.setInitContainers(toList(initContainers, ContainerSpec::toContainer));
+        spec.setContainers(toList(containers, ContainerSpec::toContainer));
+
+        PodStatus status = new PodStatus();
+        status.setPhase(phase);
+        status.setReason(reason);
+        status.setMessage(message);
+        status.setPodIP(podIP);
+        status.setHostIP(hostIP);
+        status.setQosClass(qosClass);
+        status.setStartTime(startTime);
+        status.setConditions(toList(conditions, condition -> {
+            PodCondition podCondition = new PodCondition();
+            podCondition.setType(condition.type());
+            podCondition.setStatus(condition.status());
+            podCondition.setReason(condition.reason());
+            podCondition.setMessage(condition.message());
+            podCondition.setLastTransitionTime(condition.lastTransitionTime());
+            return podCondition;
+        }));
+        status.setInitContainerStatuses(toList(initContainerStatuses, ContainerStatusSnapshot::toStatus));
+        status.setContainerStatuses(toList(containerStatuses, ContainerStatusSnapshot::toStatus));
+
+        Pod pod = new Pod();
+        pod.setApiVersion("v1");
+        pod.setKind("Pod");
+        pod.setMetadata(metadata);
+        pod.setSpec(spec);
+        pod.setStatus(status);
+        return pod;
+    }
+
+    /**
+     * 삭제 진행 중 여부
+     */
+    public boolean isTerminating() {
+        return deletionTimestamp != null;
+    }
+
+    private static <S, T> List<T> copy(List<S> values, Function<S, T> mapper) {
+        if (values == null) {
+            return null;
+        }
+        List<T> copied = new ArrayList<>(values.size());
+        for (S value : values) {
+            copied.add(mapper.apply(value));
+        }
+        return Collections.unmodifiableList(copied);
+    }
+
+    private static <S, T> List<T> toList(List<S> values, Function<S, T> mapper) {
+        if (values == null) {
+            return null;
+        }
+        List<T> converted = new ArrayList<>(values.size());
+        for (S value : values) {
+            converted.add(mapper.apply(value));
+        }
+        return converted;
+    }
+
+    private static Map<String, String> quantities(Map<String, Quantity> quantities, UnaryOperator<String> interner) {
+        if (quantities == null) {
+            return null;
+        }
+        Map<String, String> values = new LinkedHashMap<>(quantities.size() * 2);
+        quantities.forEach((key, quantity) ->
+            values.put(interner.apply(key), quantity != null ? interner.apply(quantity.toString()) : null));
+        return Collections.unmodifiableMap(values);
+    }
+
+    private static Map<String, Quantity> toQuantities(Map<String, String> values) {
+        if (values == null) {
+            return null;
+        }
+        Map<String, Quantity> quantities = new LinkedHashMap<>(values.size() * 2);
+        values.forEach((key, value) -> quantities.put(key, value != null ? new Quantity(value) : null));
+        return quantities;
+    }
+}
@@ -0,0 +1,33 @@
+package com.vibecoding.k8sdoctor.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종류별 동시 스캔 결과
+ * - incompleteKinds: 실패하거나 제한 시간을 넘겨 결과에서 빠진 종류 -> 사유
+ *   (비어 있지 않으면 faults는 일부 종류만의 결과이므로 "장애 없음"으로 해석하면 안 됨)
+ * - staleKinds: Informer 동기화 전이라 캐시 스냅샷 내용으로 스캔한 종류 -> 데이터 나이
+ */
+public record ScanResult(
+    List<FaultInfo> faults,
+    Map<String, String> incompleteKinds,
+    Map<String, String> staleKinds
+) {
+
+    public ScanResult(List<FaultInfo> faults, Map<String, String> incompleteKinds) {
+        this(faults, incompleteKinds, Map.of());
+    }
+
+    public static ScanResult complete(List<FaultInfo> faults) {
+        return new ScanResult(faults, Map.of());
+    }
+
+    public ScanResult withStaleKinds(Map<String, String> staleKinds) {
+        return new ScanResult(faults, incompleteKinds, staleKinds);
+    }
+
+    public boolean isComplete() {
+        return incompleteKinds.isEmpty();
+    }
+}
@@ -0,0 +1,226 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * kubectl get -o json 덤프 읽기 (오프라인 클러스터용)
+ * - 입력: 디렉터리(하위 디렉터리 포함), 단일 .json/.json.gz 파일, .zip 아카이브
+ * - 파일 형식: List (kubectl get ... -o json) 또는 단일 리소스
+ * - items 배열은 항목 하나씩 읽어 kind별로 분류 (파일 전체를 트리로 만들지 않음)
+ * - ClusterResourceCache.SNAPSHOT_TYPES 종류와 Event만 읽고 나머지 kind는 건너뜀
+ * - 읽는 파일 수(zip 항목 포함)와 압축 해제 후 총 바이트 수를 제한 (초과 시 IOException)
+ * - 디렉터리 안의 심볼릭 링크는 따라가지 않음 (경로 검증은 호출자가 담당)
+ */
+public class ClusterDumpReader {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterDumpReader.class);
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    // kind -> 모델 클래스
+    private final Map<String, Class<? extends HasMetadata>> typesByKind = new LinkedHashMap<>();
+
+    private final int maxFiles;
+    private final long maxBytes;
+
+    public ClusterDumpReader(int maxFiles, long maxBytes) {
+        this.maxFiles = maxFiles;
+        this.maxBytes = maxBytes;
+        ClusterResourceCache.SNAPSHOT_TYPES.forEach(type -> typesByKind.put(type.getSimpleName(), type));
+    }
+
+    /**
+     * 덤프 내용 (리소스 종류별 목록 + 이벤트)
+     */
+    public record Dump(Map<Class<? extends HasMetadata>, List<HasMetadata>> resources, List<Event> events) {
+
+        public int itemCount() {
+            return resources.values().stream().mapToInt(List::size).sum() + events.size();
+        }
+    }
+
+    /**
+     * 덤프 경로 읽기
+     */
+    public Dump read(Path source) throws IOException {
+        if (!Files.exists(source)) {
+            throw new IOException("Dump not found: " + source);
+        }
+
+        Map<Class<? extends HasMetadata>, List<HasMetadata>> resources = new LinkedHashMap<>();
+        ClusterResourceCache.SNAPSHOT_TYPES.forEach(type -> resources.put(type, new ArrayList<>()));
+        List<Event> events = new ArrayList<>();
+        Dump dump = new Dump(resources, events);
+        Budget budget = new Budget();
+
+        if (Files.isDirectory(source)) {
+            try (Stream<Path> files = Files.walk(source)) {
+                List<Path> regularFiles = files
+                    .filter(file -> Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS))
+                    .sorted()
+                    .toList();
+                for (Path file : regularFiles) {
+                    readFile(file, dump, budget);
+                }
+            }
+        } else {
+            readFile(source, dump, budget);
+        }
+
+        log.info("Read cluster dump {} ({} items from {} files, {} bytes)",
+            source, dump.itemCount(), budget.files, budget.bytes);
+        return dump;
+    }
+
+    private void readFile(Path file, Dump dump, Budget budget) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".zip")) {
+            try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(file))) {
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    String entryName = entry.getName().toLowerCase();
+                    if (!entry.isDirectory() && (entryName.endsWith(".json") || entryName.endsWith(".json.gz"))) {
+                        budget.addFile(entry.getName());
+                        // 파서가 닫아도 zip 스트림은 계속 읽을 수 있도록 close를 막음
+                        InputStream body = new FilterInputStream(zip) {
+                            @Override
+                            public void close() {
+                            }
+                        };
+                        decode(budget.track(entryName.endsWith(".gz") ? new GZIPInputStream(body) : body), dump);
+                    }
+                }
+            }
+        } else if (name.endsWith(".json.gz")) {
+            budget.addFile(file.toString());
+            try (InputStream in = budget.track(new GZIPInputStream(Files.newInputStream(file)))) {
+                decode(in, dump);
+            }
+        } else if (name.endsWith(".json")) {
+            budget.addFile(file.toString());
+            try (InputStream in = budget.track(Files.newInputStream(file))) {
+                decode(in, dump);
+            }
+        }
+    }
+
+    /**
+     * 덤프 하나를 읽는 동안의 파일 수/바이트 수 (압축 해제 후 기준, 제한 초과 시 IOException)
+     */
+    private final class Budget {
+        private int files;
+        private long bytes;
+
+        private void addFile(String name) throws IOException {
+            if (++files > maxFiles) {
+                throw new IOException("Dump has more than " + maxFiles + " files (at " + name + ")");
+            }
+        }
+
+        private InputStream track(InputStream in) {
+            return new FilterInputStream(in) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) {
+                        count(1);
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n > 0) {
+                        count(n);
+                    }
+                    return n;
+                }
+            };
+        }
+
+        private void count(int n) throws IOException {
+            bytes += n;
+            if (bytes > maxBytes) {
+                throw new IOException("Dump is larger than " + maxBytes + " bytes");
+            }
+        }
+    }
+
+    /**
+     * JSON 문서 하나 읽기 (List면 items를 하나씩, 아니면 문서 자체를 리소스로)
+     */
+    private void decode(InputStream body, Dump dump) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+
+            ObjectNode header = mapper.createObjectNode();
+            boolean hasItems = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    hasItems = true;
+                    // 항목에 kind가 없으면 목록 kind(PodList 등)에서 추론
+                    String listKind = header.path("kind").asText("");
+                    String itemKind = listKind.endsWith("List") ? listKind.substring(0, listKind.length() - 4) : null;
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        JsonNode item = mapper.readTree(parser);
+                        add(item, itemKind, dump);
+                    }
+                } else {
+                    header.set(field, mapper.readTree(parser));
+                }
+            }
+
+            if (!hasItems) {
+                add(header, null, dump);
+            }
+        }
+    }
+
+    private void add(JsonNode node, String defaultKind, Dump dump) throws IOException {
+        String kind = node.path("kind").asText(defaultKind != null ? defaultKind : "");
+        if ("Event".equals(kind)) {
+            Event event = mapper.treeToValue(node, Event.class);
+            dump.events().add(event);
+            return;
+        }
+
+        Class<? extends HasMetadata> type = typesByKind.get(kind);
+        if (type == null) {
+            return;
+        }
+        HasMetadata resource = mapper.treeToValue(node, type);
+        PruningItemStore.prune(resource);
+        dump.resources().get(type).add(resource);
+    }
+}
@@ -0,0 +1,272 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import com.vibecoding.k8sdoctor.service.ClusterConcurrencyLimiter;
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.EventList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 클러스터별 이벤트 저장소 (LIST + WATCH 기반)
+ * - involvedObject의 kind/namespace/name으로 인덱싱, uid로 조회 시 같은 이름의 이전 오브젝트 이벤트 제외
+ * - 오브젝트당 최근 이벤트만 보관 (MAX_EVENTS_PER_OBJECT)
+ * - 조회 시 API 서버 호출 없음
+ * - 초기 LIST는 클러스터별 동시 요청 제한(ClusterConcurrencyLimiter)을 거침
+ */
+public class ClusterEventStore implements Watcher<Event> {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterEventStore.class);
+
+    /** 오브젝트당 보관하는 최대 이벤트 수 */
+    public static final int MAX_EVENTS_PER_OBJECT = 20;
+
+    /** 최신 이벤트 우선 정렬 (lastTimestamp → eventTime → firstTimestamp → metadata.creationTimestamp) */
+    public static final Comparator<Event> LATEST_FIRST = Comparator.comparing(
+        ClusterEventStore::eventTime,
+        Comparator.nullsLast(Comparator.reverseOrder())
+    );
+
+    private static final long INITIAL_LIST_PAGE_SIZE = 500;
+    private static final long RESTART_DELAY_SECONDS = 5;
+
+    private final String clusterId;
+    private final KubernetesClient client;
+    private final ClusterConcurrencyLimiter concurrencyLimiter;
+    private final ScheduledExecutorService executor;
+
+    // kind/namespace/name -> (이벤트 이름 -> Event)
+    private final Map<String, Map<String, Event>> eventsByObject = new ConcurrentHashMap<>();
+
+    private volatile boolean synced = false;
+    private volatile boolean closed = false;
+    private volatile Watch watch;
+
+    public ClusterEventStore(String clusterId, KubernetesClient client, ClusterConcurrencyLimiter concurrencyLimiter) {
+        this.clusterId = clusterId;
+        this.client = client;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "k8s-events-" + clusterId);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 초기 LIST 후 WATCH 시작 (비동기)
+     */
+    public void start() {
+        executor.execute(this::listAndWatch);
+    }
+
+    /**
+     * 고정된 이벤트 목록으로 초기화 (덤프 기반 오프라인 클러스터 - LIST/WATCH 없음)
+     */
+    public void load(List<Event> events) {
+        eventsByObject.clear();
+        events.forEach(this::put);
+        synced = true;
+    }
+
+    private void listAndWatch() {
+        if (closed) {
+            return;
+        }
+
+        try {
+            eventsByObject.clear();
+
+            String continueToken = null;
+            String resourceVersion;
+            do {
+                ListOptions options = new ListOptionsBuilder()
+                    .withLimit(INITIAL_LIST_PAGE_SIZE)
+                    .withContinue(continueToken)
+                    .build();
+                EventList page = concurrencyLimiter.call(clusterId, "list/events/pages",
+                    () -> client.v1().events().inAnyNamespace().list(options));
+                page.getItems().forEach(this::put);
+
+                resourceVersion = page.getMetadata().getResourceVersion();
+                continueToken = page.getMetadata().getContinue();
+            } while (continueToken != null && !continueToken.isEmpty());
+
+            synced = true;
+
+            ListOptions watchOptions = new ListOptionsBuilder()
+                .withResourceVersion(resourceVersion)
+                .withAllowWatchBookmarks(true)
+                .build();
+            watch = client.v1().events().inAnyNamespace().watch(watchOptions, this);
+
+            log.info("Event store synced for cluster {} ({} objects)", clusterId, eventsByObject.size());
+        } catch (Exception e) {
+            log.warn("Failed to sync event store for cluster {}: {}", clusterId, e.getMessage());
+            scheduleRestart();
+        }
+    }
+
+    private void scheduleRestart() {
+        if (closed) {
+            return;
+        }
+        synced = false;
+        executor.schedule(this::listAndWatch, RESTART_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void eventReceived(Action action, Event event) {
+        switch (action) {
+            case ADDED, MODIFIED -> put(event);
+            case DELETED -> remove(event);
+            default -> {
+                // BOOKMARK, ERROR - 저장소 변경 없음
+            }
+        }
+    }
+
+    @Override
+    public void onClose(WatcherException cause) {
+        // 410 Gone 등으로 watch가 끊기면 다시 LIST부터 시작
+        log.info("Event watch closed for cluster {}: {}", clusterId, cause.getMessage());
+        scheduleRestart();
+    }
+
+    @Override
+    public void onClose() {
+        // 정상 종료 (close() 호출)
+    }
+
+    private void put(Event event) {
+        ObjectReference involved = event.getInvolvedObject();
+        if (involved == null || event.getMetadata() == null) {
+            return;
+        }
+
+        String objectKey = objectKey(involved.getKind(), involved.getNamespace(), involved.getName());
+        Map<String, Event> events = eventsByObject.computeIfAbsent(objectKey, key -> new HashMap<>());
+        synchronized (events) {
+            events.put(event.getMetadata().getName(), event);
+
+            // 오브젝트당 최대 개수 초과 시 가장 오래된 이벤트 제거
+            while (events.size() > MAX_EVENTS_PER_OBJECT) {
+                events.values().stream()
+                    .max(LATEST_FIRST)
+                    .ifPresent(oldest -> events.remove(oldest.getMetadata().getName()));
+            }
+        }
+    }
+
+    private void remove(Event event) {
+        ObjectReference involved = event.getInvolvedObject();
+        if (involved == null || event.getMetadata() == null) {
+            return;
+        }
+
+        String objectKey = objectKey(involved.getKind(), involved.getNamespace(), involved.getName());
+        Map<String, Event> events = eventsByObject.get(objectKey);
+        if (events == null) {
+            return;
+        }
+        synchronized (events) {
+            events.remove(event.getMetadata().getName());
+            if (events.isEmpty()) {
+                eventsByObject.remove(objectKey);
+            }
+        }
+    }
+
+    /**
+     * involvedObject 기준 이벤트 조회 (최신순)
+     * - uid가 있으면 involvedObject.uid가 다른 이벤트(삭제 후 같은 이름으로 다시 만들어지기 전 오브젝트) 제외
+     */
+    public List<Event> find(String kind, String namespace, String name, String uid, int limit) {
+        Map<String, Event> events = eventsByObject.get(objectKey(kind, namespace, name));
+        if (events == null) {
+            return List.of();
+        }
+        List<Event> copy;
+        synchronized (events) {
+            copy = new ArrayList<>(events.values());
+        }
+        return copy.stream()
+            .filter(event -> uid == null || event.getInvolvedObject().getUid() == null
+                || uid.equals(event.getInvolvedObject().getUid()))
+            .sorted(LATEST_FIRST)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private static String objectKey(String kind, String namespace, String name) {
+        return kind + "/" + (namespace != null ? namespace : "") + "/" + name;
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * WATCH 종료
+     */
+    public void close() {
+        closed = true;
+        synced = false;
+        Watch current = watch;
+        if (current != null) {
+            current.close();
+        }
+        executor.shutdownNow();
+        eventsByObject.clear();
+    }
+
+    /**
+     * 이벤트 발생 시각 (정렬용, 알 수 없으면 null)
+     * - events.k8s.io/v1로 기록된 이벤트는 lastTimestamp/firstTimestamp 없이 eventTime(마이크로초)만 있음
+     * - 초 단위와 마이크로초 단위 문자열을 섞어 비교하지 않도록 Instant로 변환
+     */
+    public static Instant eventTime(Event event) {
+        Instant time = parseTime(event.getLastTimestamp());
+        if (time == null && event.getEventTime() != null) {
+            time = parseTime(event.getEventTime().getTime());
+        }
+        if (time == null) {
+            time = parseTime(event.getFirstTimestamp());
+        }
+        if (time == null && event.getMetadata() != null) {
+            time = parseTime(event.getMetadata().getCreationTimestamp());
+        }
+        return time;
+    }
+
+    private static Instant parseTime(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
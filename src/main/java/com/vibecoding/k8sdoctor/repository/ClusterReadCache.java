@@ -0,0 +1,72 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 클러스터 인식 Kubernetes 목록 조회 캐시 (CacheConfig의 Caffeine 캐시 사용)
+ * - 키: (clusterId, namespace) - namespace가 null이면 클러스터 전체 목록
+ * - Informer 캐시가 없을 때만 사용하므로 watch 이벤트가 없음 - 변경은 종류별 TTL(CacheConfig) 만료로 반영
+ * - 클러스터 삭제/클라이언트 교체 시 해당 클러스터의 모든 키 제거
+ * - hit/miss 통계는 actuator metrics로 노출 (cache.gets?tag=name:<캐시 이름>)
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterReadCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterReadCache.class);
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 캐시 키 (namespace == null: 클러스터 전체)
+     */
+    public record Key(String clusterId, String namespace) {
+    }
+
+    /**
+     * 캐시에서 목록 조회, 없으면 loader로 조회 후 저장
+     * - 호출자가 목록을 수정해도 캐시 항목이 바뀌지 않도록 복사본 반환
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String cacheName, String clusterId, String namespace, Supplier<List<T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        Key key = new Key(clusterId, namespace);
+        List<T> cached = cache.get(key, List.class);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
+
+        List<T> loaded = loader.get();
+        cache.put(key, List.copyOf(loaded));
+        return loaded;
+    }
+
+    /**
+     * 클러스터의 모든 캐시 항목 제거
+     */
+    public void evictCluster(String clusterId) {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                caffeineCache.getNativeCache().asMap().keySet().removeIf(key ->
+                    key instanceof Key k && Objects.equals(k.clusterId(), clusterId));
+            }
+        }
+        log.debug("Evicted read cache entries for cluster: {}", clusterId);
+    }
+}
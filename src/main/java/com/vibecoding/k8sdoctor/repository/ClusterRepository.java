@@ -2,19 +2,29 @@ package com.vibecoding.k8sdoctor.repository;
 
 import com.vibecoding.k8sdoctor.model.ClusterConfig;
 import com.vibecoding.k8sdoctor.model.ClusterInfo;
+import com.vibecoding.k8sdoctor.service.ClusterConcurrencyLimiter;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * 클러스터 정보 저장소 (하이브리드: DB + 인메모리)
  * - ClusterConfig, ClusterInfo는 DB에 저장 (JPA)
  * - KubernetesClient는 인메모리에 저장 (직렬화 불가능)
+ * - 캐시 모드가 켜져 있으면 클라이언트와 함께 Informer 캐시를 시작/종료
+ * - Informer 캐시는 스냅샷 파일로 warm start하고, 주기적으로/종료 시 스냅샷 저장
+ * - Informer 변경 이벤트는 등록된 리스너(장애 감시 엔진 등)에 전달
  */
 
 @Repository
@@ -25,10 +35,23 @@ public class ClusterRepository {
 
     private final ClusterConfigRepository clusterConfigRepository;
     private final ClusterInfoRepository clusterInfoRepository;
+    private final ClusterReadCache clusterReadCache;
+    private final ResourceSnapshotStore snapshotStore;
+    private final MeterRegistry meterRegistry;
+    private final ClusterConcurrencyLimiter concurrencyLimiter;
 
     // Kubernetes 클라이언트 저장 (ID -> KubernetesClient) - 인메모리만
     private final Map<String, KubernetesClient> kubernetesClients = new ConcurrentHashMap<>();
 
+    // 클러스터별 Informer 캐시 (ID -> ClusterResourceCache) - 캐시 모드일 때만
+    private final Map<String, ClusterResourceCache> resourceCaches = new ConcurrentHashMap<>();
+
+    // 모든 클러스터의 리소스 변경 리스너
+    private final List<ClusterResourceCache.ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    @Value("${kubernetes.cache.enabled:false}")
+    private boolean cacheEnabled;
+
     /**
      * 클러스터 설정 저장
      */
@@ -49,8 +72,65 @@ public class ClusterRepository {
      * Kubernetes 클라이언트 저장 (인메모리만)
      */
     public void saveClient(String clusterId, KubernetesClient client) {
-        kubernetesClients.put(clusterId, client);
+        KubernetesClient previous = kubernetesClients.put(clusterId, client);
         log.info("Saved Kubernetes client to memory: {}", clusterId);
+
+        if (previous != null && previous != client) {
+            closeCache(clusterId);
+            closeClient(clusterId, previous);
+            clusterReadCache.evictCluster(clusterId);
+        }
+
+        if (cacheEnabled && !resourceCaches.containsKey(clusterId)) {
+            ClusterResourceCache cache =
+                new ClusterResourceCache(clusterId, client, concurrencyLimiter, this::onResourceChanged);
+            resourceCaches.put(clusterId, cache);
+            cache.getStringPool().bindTo(meterRegistry, clusterId);
+            try {
+                cache.start(snapshotStore.load(clusterId, ClusterResourceCache.SNAPSHOT_TYPES).orElse(null),
+                    snapshotStore.getMaxAge());
+            } catch (Exception e) {
+                log.warn("Failed to start resource cache for cluster: {}", clusterId, e);
+                closeCache(clusterId);
+            }
+        }
+    }
+
+    /**
+     * 덤프 기반 오프라인 클러스터의 클라이언트와 캐시 저장
+     * - 캐시 모드 설정과 관계없이 덤프 내용으로 채운 캐시를 항상 생성 (모든 조회를 캐시에서 처리)
+     */
+    public void saveDumpClient(String clusterId, KubernetesClient client, ClusterDumpReader.Dump dump) {
+        KubernetesClient previous = kubernetesClients.put(clusterId, client);
+        closeCache(clusterId);
+        if (previous != null && previous != client) {
+            closeClient(clusterId, previous);
+        }
+        clusterReadCache.evictCluster(clusterId);
+
+        ClusterResourceCache cache =
+            new ClusterResourceCache(clusterId, client, concurrencyLimiter, this::onResourceChanged);
+        cache.getStringPool().bindTo(meterRegistry, clusterId);
+        cache.startOffline(dump);
+        resourceCaches.put(clusterId, cache);
+        log.info("Loaded cluster dump into memory: {}", clusterId);
+    }
+
+    /**
+     * 리소스 변경 리스너 등록 (이후 시작되는 캐시를 포함해 모든 클러스터에 적용)
+     */
+    public void addChangeListener(ClusterResourceCache.ChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    private void onResourceChanged(String clusterId, HasMetadata resource, boolean deleted) {
+        for (ClusterResourceCache.ChangeListener listener : changeListeners) {
+            try {
+                listener.onChange(clusterId, resource, deleted);
+            } catch (RuntimeException e) {
+                log.warn("Resource change listener failed for cluster {}: {}", clusterId, e.getMessage());
+            }
+        }
     }
 
     /**
@@ -74,6 +154,20 @@ public class ClusterRepository {
         return Optional.ofNullable(kubernetesClients.get(id));
     }
 
+    /**
+     * 클러스터 리소스 캐시 조회 (캐시 모드가 꺼져 있으면 항상 비어 있음)
+     */
+    public Optional<ClusterResourceCache> findCacheById(String id) {
+        return Optional.ofNullable(resourceCaches.get(id));
+    }
+
+    /**
+     * 모든 클러스터 리소스 캐시 조회 (ID -> 캐시)
+     */
+    public Map<String, ClusterResourceCache> findAllCaches() {
+        return Map.copyOf(resourceCaches);
+    }
+
     /**
      * 모든 클러스터 정보 조회
      */
@@ -88,18 +182,69 @@ public class ClusterRepository {
         clusterConfigRepository.deleteById(id);
         clusterInfoRepository.deleteById(id);
 
-        // Kubernetes 클라이언트 종료
+        releaseClient(id);
+        snapshotStore.delete(id);
+
+        log.info("Deleted cluster from DB: {}", id);
+    }
+
+    /**
+     * Informer 캐시 종료 후 Kubernetes 클라이언트 종료 (DB는 변경하지 않음)
+     */
+    public void releaseClient(String id) {
+        closeCache(id);
         KubernetesClient client = kubernetesClients.remove(id);
         if (client != null) {
+            closeClient(id, client);
+        }
+        clusterReadCache.evictCluster(id);
+    }
+
+    private void closeCache(String id) {
+        ClusterResourceCache cache = resourceCaches.remove(id);
+        if (cache != null) {
+            cache.close();
+            // 문자열 풀 metrics 해제 (같은 ID로 다시 만들면 새 풀로 등록)
+            Search.in(meterRegistry)
+                .tags("cache", StringPool.METRIC_NAME, "cluster", id)
+                .meters()
+                .forEach(meterRegistry::remove);
+        }
+    }
+
+    private void closeClient(String id, KubernetesClient client) {
+        try {
+            client.close();
+            log.info("Closed Kubernetes client: {}", id);
+        } catch (Exception e) {
+            log.warn("Failed to close Kubernetes client: {}", id, e);
+        }
+    }
+
+    /**
+     * 모든 Informer 캐시를 스냅샷 파일로 저장 (동기화가 끝난 리소스 종류만)
+     */
+    public void saveCacheSnapshots() {
+        resourceCaches.forEach((id, cache) -> {
             try {
-                client.close();
-                log.info("Closed Kubernetes client: {}", id);
+                long start = System.currentTimeMillis();
+                snapshotStore.save(id, cache.snapshotSections());
+                log.debug("Saved cache snapshot for cluster {} in {}ms", id, System.currentTimeMillis() - start);
             } catch (Exception e) {
-                log.warn("Failed to close Kubernetes client: {}", id, e);
+                log.warn("Failed to save cache snapshot for cluster {}: {}", id, e.getMessage());
             }
-        }
+        });
+    }
 
-        log.info("Deleted cluster from DB: {}", id);
+    /**
+     * 애플리케이션 종료 시 스냅샷 저장 후 Informer 캐시 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (snapshotStore.isEnabled()) {
+            saveCacheSnapshots();
+        }
+        resourceCaches.keySet().forEach(this::closeCache);
     }
 
     /**
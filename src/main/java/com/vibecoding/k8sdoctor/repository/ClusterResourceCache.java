@@ -0,0 +1,530 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import com.vibecoding.k8sdoctor.service.ClusterConcurrencyLimiter;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.apps.DaemonSet;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 클러스터별 리소스 캐시 (fabric8 SharedIndexInformer 기반)
+ * - 리소스 종류별로 watch 스트림 하나씩 유지
+ * - 목록/단건 조회는 인메모리 store에서 처리 (API 서버 호출 없음)
+ * - 초기 동기화가 끝나기 전에는 사용하지 않음 (호출자는 API 서버로 fallback)
+ * - 이벤트는 involvedObject 기준으로 인덱싱된 ClusterEventStore에 별도 보관
+ * - watch로 리소스 변경을 받으면 changeListener에 알림 (목록 조회 캐시 무효화, 장애 감시 엔진)
+ * - store에 넣기 전에 managedFields/last-applied 어노테이션 제거 및 반복 문자열 공유 (PruningItemStore)
+ * - Pod은 전체 객체 대신 탐지/목록에 필요한 필드만 담은 PodSnapshot으로 보관 (PodSnapshotItemStore)
+ *   상세 화면처럼 전체 spec이 필요한 단건 조회는 isProjected()로 확인 후 API 서버에서 조회
+ * - ReplicaSet/Job의 ownerReference로 owner 그래프 유지 (Pod→ReplicaSet→Deployment, Pod→Job→CronJob)
+ * - 스냅샷 파일로 warm start하면 초기 LIST가 끝나기 전에도 스냅샷 내용으로 조회 가능
+ *   (LIST 완료 시 store가 최신 상태로 교체되고 차이는 update/delete 이벤트로 전달됨)
+ *   스냅샷 저장 시각부터 max-age가 지나도록 LIST가 끝나지 않으면 (LIST 반복 실패 등) warm 상태를 해제해
+ *   API 서버 직접 조회로 돌아감, 그 전까지의 데이터 나이는 staleness()로 확인
+ * - 오프라인 모드: kubectl 덤프로 store를 채우고 Informer를 시작하지 않음 (API 서버 연결 없음)
+ */
+public class ClusterResourceCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterResourceCache.class);
+
+    /** 네임스페이스 인덱스 이름 */
+    public static final String NAMESPACE_INDEX = "byNamespace";
+
+    /** Pod 레이블 인덱스 이름 (키: namespace/key=value) */
+    public static final String POD_LABEL_INDEX = "byLabel";
+
+    /** Pod 노드 인덱스 이름 (키: spec.nodeName) */
+    public static final String POD_NODE_INDEX = "byNode";
+
+    // 클러스터별 문자열 풀 최대 크기
+    private static final int STRING_POOL_MAX_ENTRIES = 100_000;
+
+    /** 스냅샷 파일에 저장하는 리소스 종류 (이벤트 제외) */
+    public static final List<Class<? extends HasMetadata>> SNAPSHOT_TYPES = List.of(
+        Namespace.class, Node.class, Pod.class, Deployment.class, DaemonSet.class,
+        StatefulSet.class, ReplicaSet.class, Job.class, CronJob.class);
+
+    private final String clusterId;
+    private final KubernetesClient client;
+
+    // 리소스 타입 -> Informer
+    private final Map<Class<? extends HasMetadata>, SharedIndexInformer<? extends HasMetadata>> informers =
+        new ConcurrentHashMap<>();
+
+    private final ClusterEventStore eventStore;
+
+    // 리소스 추가/변경/삭제 알림
+    private final ChangeListener changeListener;
+
+    // 중간 워크로드(ReplicaSet, Job) uid -> controller owner
+    private final OwnerGraph ownerGraph = new OwnerGraph();
+
+    // 수집 시 반복 문자열 공유용 풀 (클러스터 단위로 해제)
+    private final StringPool stringPool = new StringPool(STRING_POOL_MAX_ENTRIES);
+
+    // 스냅샷으로 store를 미리 채운 리소스 타입 -> 스냅샷 저장 시각 (초기 LIST 전에도 warmMaxAgeMillis 동안 조회 허용)
+    private final Map<Class<? extends HasMetadata>, Long> warmTypes = new ConcurrentHashMap<>();
+
+    // warm 상태를 유지하는 최대 데이터 나이 (스냅샷 저장 시각 기준)
+    private long warmMaxAgeMillis;
+
+    // warm start에 사용할 스냅샷 (start 이후에는 참조하지 않음)
+    private ResourceSnapshotStore.Snapshot warmStart;
+
+    // 덤프 기반 오프라인 클러스터 여부 (Informer/이벤트 watch를 시작하지 않음)
+    private volatile boolean offline;
+
+    /**
+     * 리소스 변경 알림 (Informer 이벤트 스레드에서 호출되므로 오래 걸리는 작업은 하지 않음)
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+        void onChange(String clusterId, HasMetadata resource, boolean deleted);
+    }
+
+    public ClusterResourceCache(String clusterId, KubernetesClient client, ClusterConcurrencyLimiter concurrencyLimiter,
+                                ChangeListener changeListener) {
+        this.clusterId = clusterId;
+        this.client = client;
+        this.changeListener = changeListener;
+        this.eventStore = new ClusterEventStore(clusterId, client, concurrencyLimiter);
+    }
+
+    /**
+     * 모든 Informer 생성 및 시작 (비동기 - 초기 LIST 완료를 기다리지 않음)
+     */
+    public void start() {
+        start(null, Duration.ZERO);
+    }
+
+    /**
+     * 스냅샷으로 store를 미리 채운 뒤 Informer 시작 (snapshot이 null이면 일반 시작)
+     * - 스냅샷 내용은 저장 시각부터 maxAge까지만 조회에 사용 (그 전에 LIST가 끝나면 최신 상태로 교체)
+     */
+    public void start(ResourceSnapshotStore.Snapshot snapshot, Duration maxAge) {
+        this.warmStart = snapshot;
+        this.warmMaxAgeMillis = maxAge.toMillis();
+        register(Namespace.class, client.namespaces().runnableInformer(0));
+        register(Node.class, client.nodes().runnableInformer(0));
+        SharedIndexInformer<Pod> podInformer = client.pods().inAnyNamespace().runnableInformer(0);
+        podInformer.addIndexers(Map.<String, Function<Pod, List<String>>>of(
+            POD_LABEL_INDEX, ClusterResourceCache::podLabelIndex,
+            POD_NODE_INDEX, ClusterResourceCache::podNodeIndex));
+        register(Pod.class, podInformer);
+        register(Deployment.class, client.apps().deployments().inAnyNamespace().runnableInformer(0));
+        register(DaemonSet.class, client.apps().daemonSets().inAnyNamespace().runnableInformer(0));
+        register(StatefulSet.class, client.apps().statefulSets().inAnyNamespace().runnableInformer(0));
+        register(ReplicaSet.class, client.apps().replicaSets().inAnyNamespace().runnableInformer(0));
+        register(Job.class, client.batch().v1().jobs().inAnyNamespace().runnableInformer(0));
+        register(CronJob.class, client.batch().v1().cronjobs().inAnyNamespace().runnableInformer(0));
+
+        if (!offline) {
+            eventStore.start();
+        }
+
+        if (snapshot != null) {
+            log.info("Started {} informers for cluster: {} (warm start: {} kinds, {} items)",
+                informers.size(), clusterId, warmTypes.size(), snapshot.itemCount());
+        } else {
+            log.info("Started {} informers for cluster: {}", informers.size(), clusterId);
+        }
+        this.warmStart = null;
+    }
+
+    /**
+     * 덤프 내용으로 store를 채우고 시작 (오프라인 - Informer와 이벤트 watch는 시작하지 않음)
+     * - 덤프에 없는 종류도 빈 목록으로 채워 API 서버로 fallback하지 않도록 함
+     */
+    public void startOffline(ClusterDumpReader.Dump dump) {
+        this.offline = true;
+        eventStore.load(dump.events());
+
+        Map<Class<? extends HasMetadata>, ResourceSnapshotStore.Section> sections = new LinkedHashMap<>();
+        dump.resources().forEach((type, items) -> sections.put(type, new ResourceSnapshotStore.Section(null, items)));
+        start(new ResourceSnapshotStore.Snapshot(clusterId, System.currentTimeMillis(), sections), Duration.ZERO);
+    }
+
+    private <T extends HasMetadata> void register(Class<T> type, SharedIndexInformer<T> informer) {
+        informer.addIndexers(Map.<String, Function<T, List<String>>>of(NAMESPACE_INDEX, namespaceIndex()));
+        informer.itemStore(itemStore(type));
+        boolean ownerNode = type == ReplicaSet.class || type == Job.class;
+        informer.addEventHandler(new ResourceEventHandler<T>() {
+            @Override
+            public void onAdd(T resource) {
+                if (ownerNode) {
+                    ownerGraph.put(resource);
+                }
+                changeListener.onChange(clusterId, resource, false);
+            }
+
+            @Override
+            public void onUpdate(T oldResource, T newResource) {
+                if (ownerNode) {
+                    ownerGraph.put(newResource);
+                }
+                changeListener.onChange(clusterId, newResource, false);
+            }
+
+            @Override
+            public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+                if (ownerNode) {
+                    ownerGraph.remove(resource);
+                }
+                changeListener.onChange(clusterId, resource, true);
+            }
+        });
+        informers.put(type, informer);
+
+        seed(type, informer);
+        if (offline) {
+            return;
+        }
+
+        informer.start().whenComplete((ignored, error) -> {
+            if (error != null) {
+                // RBAC 권한 부족 등으로 시작 실패 - 해당 종류는 API 서버 직접 조회로 동작
+                log.warn("Informer for {} failed to start in cluster {}: {}",
+                    type.getSimpleName(), clusterId, error.getMessage());
+            } else {
+                log.debug("Informer for {} synced in cluster {}", type.getSimpleName(), clusterId);
+            }
+        });
+    }
+
+    /**
+     * 리소스 종류별 store
+     * - Pod: PodSnapshot만 보관 (오프라인 클러스터는 API 서버가 없으므로 덤프 내용 전체 보관)
+     * - 그 외: managedFields/last-applied를 제거한 전체 객체
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends HasMetadata> ItemStore<T> itemStore(Class<T> type) {
+        if (isProjected(type)) {
+            return (ItemStore<T>) new PodSnapshotItemStore(stringPool);
+        }
+        return new PruningItemStore<>(stringPool);
+    }
+
+    /**
+     * store에 일부 필드만 보관하는 종류인지 (true이면 조회 결과에 annotations, volumes, env 등이 없음)
+     */
+    public boolean isProjected(Class<? extends HasMetadata> type) {
+        return type == Pod.class && !offline;
+    }
+
+    /**
+     * 스냅샷 항목으로 store 초기화 (Informer 시작 전에만 가능)
+     * - initialState는 이벤트 핸들러를 호출하지 않으므로 owner 그래프는 직접 채움
+     */
+    private <T extends HasMetadata> void seed(Class<T> type, SharedIndexInformer<T> informer) {
+        ResourceSnapshotStore.Section section = warmStart != null ? warmStart.sections().get(type) : null;
+        if (section == null) {
+            return;
+        }
+
+        List<T> items = section.items().stream().filter(type::isInstance).map(type::cast).toList();
+        informer.initialState(items.stream());
+        for (T item : items) {
+            if (type == ReplicaSet.class || type == Job.class) {
+                ownerGraph.put(item);
+            }
+        }
+        warmTypes.put(type, warmStart.savedAt());
+        log.debug("Seeded {} {} from snapshot (resourceVersion {}) in cluster {}",
+            items.size(), type.getSimpleName(), section.resourceVersion(), clusterId);
+    }
+
+    /**
+     * 초기 동기화가 끝난 리소스 종류의 현재 상태 (스냅샷 파일 저장용)
+     * - warm start 후 아직 LIST가 끝나지 않은 종류는 제외 (오래된 내용을 다시 저장하지 않음)
+     */
+    public Map<Class<? extends HasMetadata>, ResourceSnapshotStore.Section> snapshotSections() {
+        Map<Class<? extends HasMetadata>, ResourceSnapshotStore.Section> sections = new LinkedHashMap<>();
+        for (Class<? extends HasMetadata> type : SNAPSHOT_TYPES) {
+            SharedIndexInformer<? extends HasMetadata> informer = informers.get(type);
+            if (informer != null && informer.hasSynced()) {
+                sections.put(type, new ResourceSnapshotStore.Section(
+                    informer.lastSyncResourceVersion(), List.copyOf(informer.getIndexer().list())));
+            }
+        }
+        return sections;
+    }
+
+    private static <T extends HasMetadata> Function<T, List<String>> namespaceIndex() {
+        return resource -> {
+            String namespace = resource.getMetadata() != null ? resource.getMetadata().getNamespace() : null;
+            return namespace != null ? List.of(namespace) : Collections.emptyList();
+        };
+    }
+
+    private static List<String> podLabelIndex(Pod pod) {
+        if (pod.getMetadata() == null || pod.getMetadata().getLabels() == null) {
+            return Collections.emptyList();
+        }
+        String namespace = pod.getMetadata().getNamespace();
+        List<String> keys = new ArrayList<>(pod.getMetadata().getLabels().size());
+        pod.getMetadata().getLabels().forEach((key, value) -> keys.add(labelKey(namespace, key, value)));
+        return keys;
+    }
+
+    private static List<String> podNodeIndex(Pod pod) {
+        String nodeName = pod.getSpec() != null ? pod.getSpec().getNodeName() : null;
+        return nodeName != null ? List.of(nodeName) : Collections.emptyList();
+    }
+
+    private static String labelKey(String namespace, String key, String value) {
+        return namespace + "/" + key + "=" + value;
+    }
+
+    /**
+     * 초기 동기화가 끝난 (또는 스냅샷으로 채워진) Informer 조회
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends HasMetadata> Optional<SharedIndexInformer<T>> informer(Class<T> type) {
+        SharedIndexInformer<T> informer = (SharedIndexInformer<T>) informers.get(type);
+        if (informer == null || !(informer.hasSynced() || isWarm(type))) {
+            return Optional.empty();
+        }
+        return Optional.of(informer);
+    }
+
+    /**
+     * 전체 목록 조회
+     */
+    public <T extends HasMetadata> Optional<List<T>> list(Class<T> type) {
+        return informer(type).map(informer -> new ArrayList<>(informer.getIndexer().list()));
+    }
+
+    /**
+     * 리소스 개수 조회 (목록 복사 없이 키 개수만 계산)
+     */
+    public <T extends HasMetadata> Optional<Integer> count(Class<T> type) {
+        return informer(type).map(informer -> informer.getIndexer().listKeys().size());
+    }
+
+    /**
+     * 네임스페이스 목록 조회
+     */
+    public <T extends HasMetadata> Optional<List<T>> list(Class<T> type, String namespace) {
+        return informer(type).map(informer ->
+            new ArrayList<>(informer.getIndexer().byIndex(NAMESPACE_INDEX, namespace)));
+    }
+
+    /**
+     * 단건 조회 (namespace가 null이면 클러스터 범위 리소스)
+     * - isSynced()로 캐시 준비 여부를 먼저 확인해야 함
+     */
+    public <T extends HasMetadata> Optional<T> get(Class<T> type, String namespace, String name) {
+        String key = namespace != null ? namespace + "/" + name : name;
+        return informer(type).map(informer -> informer.getIndexer().getByKey(key));
+    }
+
+    /**
+     * owner 그래프 조회 (ReplicaSet/Job Informer 동기화 전이면 empty)
+     */
+    public Optional<OwnerGraph> ownerGraph() {
+        return isSynced(ReplicaSet.class) && isSynced(Job.class) ? Optional.of(ownerGraph) : Optional.empty();
+    }
+
+    /**
+     * 인덱스 조회
+     */
+    public <T extends HasMetadata> Optional<List<T>> byIndex(Class<T> type, String indexName, String key) {
+        return informer(type).map(informer -> new ArrayList<>(informer.getIndexer().byIndex(indexName, key)));
+    }
+
+    /**
+     * 레이블 셀렉터로 Pod 조회 (matchLabels + matchExpressions)
+     * - 가장 좁은 레이블 인덱스 버킷을 고른 뒤 나머지 조건은 메모리에서 확인
+     */
+    public Optional<List<Pod>> listPodsBySelector(String namespace, LabelSelector selector) {
+        return informer(Pod.class).map(informer -> {
+            List<Pod> candidates = null;
+
+            if (selector.getMatchLabels() != null) {
+                for (Map.Entry<String, String> entry : selector.getMatchLabels().entrySet()) {
+                    List<Pod> bucket = informer.getIndexer()
+                        .byIndex(POD_LABEL_INDEX, labelKey(namespace, entry.getKey(), entry.getValue()));
+                    if (candidates == null || bucket.size() < candidates.size()) {
+                        candidates = bucket;
+                    }
+                }
+            }
+            if (candidates == null) {
+                candidates = informer.getIndexer().byIndex(NAMESPACE_INDEX, namespace);
+            }
+
+            List<Pod> matched = new ArrayList<>();
+            for (Pod pod : candidates) {
+                Map<String, String> labels = pod.getMetadata() != null ? pod.getMetadata().getLabels() : null;
+                if (matches(selector, labels)) {
+                    matched.add(pod);
+                }
+            }
+            return matched;
+        });
+    }
+
+    /**
+     * 레이블이 셀렉터 조건을 만족하는지 확인 (Kubernetes LabelSelector 의미론)
+     */
+    public static boolean matches(LabelSelector selector, Map<String, String> labels) {
+        Map<String, String> podLabels = labels != null ? labels : Collections.emptyMap();
+
+        if (selector.getMatchLabels() != null) {
+            for (Map.Entry<String, String> entry : selector.getMatchLabels().entrySet()) {
+                if (!entry.getValue().equals(podLabels.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+        }
+
+        if (selector.getMatchExpressions() != null) {
+            for (LabelSelectorRequirement requirement : selector.getMatchExpressions()) {
+                String value = podLabels.get(requirement.getKey());
+                List<String> values = requirement.getValues() != null ? requirement.getValues() : Collections.emptyList();
+                boolean ok = switch (requirement.getOperator()) {
+                    case "In" -> value != null && values.contains(value);
+                    case "NotIn" -> value == null || !values.contains(value);
+                    case "Exists" -> podLabels.containsKey(requirement.getKey());
+                    case "DoesNotExist" -> !podLabels.containsKey(requirement.getKey());
+                    default -> false;
+                };
+                if (!ok) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 조회 가능 여부 (초기 동기화 완료 또는 max-age 이내의 스냅샷으로 warm start)
+     */
+    public boolean isSynced(Class<? extends HasMetadata> type) {
+        SharedIndexInformer<? extends HasMetadata> informer = informers.get(type);
+        return informer != null && (informer.hasSynced() || isWarm(type));
+    }
+
+    /**
+     * 스냅샷 내용으로 조회 중인 종류인지 (오프라인 클러스터는 만료 없음)
+     * - 스냅샷 저장 시각부터 max-age가 지나면 warm 상태 해제 (Informer LIST가 계속 실패하는 경우)
+     */
+    private boolean isWarm(Class<? extends HasMetadata> type) {
+        Long savedAt = warmTypes.get(type);
+        if (savedAt == null) {
+            return false;
+        }
+        if (offline || System.currentTimeMillis() - savedAt <= warmMaxAgeMillis) {
+            return true;
+        }
+        if (warmTypes.remove(type, savedAt)) {
+            log.warn("Snapshot data for {} in cluster {} expired before the informer synced; "
+                + "falling back to the API server", type.getSimpleName(), clusterId);
+        }
+        return false;
+    }
+
+    /**
+     * 조회 결과가 스냅샷 내용이면 그 데이터의 나이 (최신 상태이거나 조회 불가이면 empty)
+     */
+    public Optional<Duration> staleness(Class<? extends HasMetadata> type) {
+        SharedIndexInformer<? extends HasMetadata> informer = informers.get(type);
+        if (informer == null || offline || informer.hasSynced() || !isWarm(type)) {
+            return Optional.empty();
+        }
+        Long savedAt = warmTypes.get(type);
+        return savedAt != null
+            ? Optional.of(Duration.ofMillis(System.currentTimeMillis() - savedAt))
+            : Optional.empty();
+    }
+
+    /**
+     * 스냅샷 내용으로 조회 중인 모든 종류 -> 데이터 나이
+     */
+    public Map<Class<? extends HasMetadata>, Duration> staleTypes() {
+        Map<Class<? extends HasMetadata>, Duration> stale = new LinkedHashMap<>();
+        for (Class<? extends HasMetadata> type : SNAPSHOT_TYPES) {
+            staleness(type).ifPresent(age -> stale.put(type, age));
+        }
+        return stale;
+    }
+
+    /**
+     * API 서버에서 받은 최신 상태인지 (Informer 초기 LIST 완료, 스냅샷 warm 상태는 제외)
+     * - 오프라인 클러스터는 덤프 자체가 원본이므로 등록된 종류면 true
+     */
+    public boolean hasLiveData(Class<? extends HasMetadata> type) {
+        SharedIndexInformer<? extends HasMetadata> informer = informers.get(type);
+        return informer != null && (offline || informer.hasSynced());
+    }
+
+    /**
+     * 이벤트 저장소 조회 (초기 동기화 전이면 empty)
+     */
+    public Optional<ClusterEventStore> events() {
+        return eventStore.isSynced() ? Optional.of(eventStore) : Optional.empty();
+    }
+
+    /**
+     * 모든 Informer 및 이벤트 watch 종료
+     */
+    public void close() {
+        eventStore.close();
+        informers.forEach((type, informer) -> {
+            try {
+                informer.stop();
+            } catch (Exception e) {
+                log.warn("Failed to stop informer for {} in cluster {}", type.getSimpleName(), clusterId, e);
+            }
+        });
+        informers.clear();
+        warmTypes.clear();
+        ownerGraph.clear();
+        log.info("Stopped informers for cluster: {} (string pool: {} entries, {} hits, {} misses, {} evictions)",
+            clusterId, stringPool.size(), stringPool.getHits(), stringPool.getMisses(), stringPool.getEvictions());
+        stringPool.clear();
+    }
+
+    /**
+     * 덤프 기반 오프라인 클러스터 여부
+     */
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * 문자열 풀 조회 (metrics 등록용)
+     */
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
+    public String getClusterId() {
+        return clusterId;
+    }
+}
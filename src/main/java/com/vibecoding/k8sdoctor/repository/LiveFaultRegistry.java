@@ -0,0 +1,183 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import com.vibecoding.k8sdoctor.model.FaultInfo;
+import com.vibecoding.k8sdoctor.model.LiveFault;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터별 현재 장애 레지스트리 (장애 감시 엔진이 갱신)
+ * - 리소스 uid -> (장애 키 -> 열린 장애), 리소스 단위로 통째로 교체
+ * - 다시 평가했을 때 사라진 장애는 resolvedAt을 채워 최근 해결 목록으로 이동 (클러스터당 최대 개수 유지)
+ * - 조회는 열린 장애 수에 비례 (클러스터를 다시 스캔하지 않음)
+ */
+@Component
+public class LiveFaultRegistry {
+
+    private final int maxResolved;
+
+    // 클러스터 ID -> 장애 목록
+    private final Map<String, ClusterFaults> clusters = new ConcurrentHashMap<>();
+
+    public LiveFaultRegistry(@Value("${diagnostics.engine.resolved-history:500}") int maxResolved) {
+        this.maxResolved = Math.max(0, maxResolved);
+    }
+
+    /**
+     * 클러스터 하나의 장애 목록
+     */
+    private static final class ClusterFaults {
+
+        // 리소스 uid -> (장애 키 -> 열린 장애)
+        private final Map<String, Map<String, LiveFault>> open = new ConcurrentHashMap<>();
+
+        // 최근 해결된 장애 (오래된 것부터, resolved 자체로 동기화)
+        private final Deque<LiveFault> resolved = new ArrayDeque<>();
+    }
+
+    /**
+     * 리소스 하나의 평가 결과 반영 (faults가 비어 있으면 해당 리소스의 장애를 모두 해결 처리)
+     */
+    public void update(String clusterId, String uid, List<FaultInfo> faults) {
+        LocalDateTime now = LocalDateTime.now();
+        ClusterFaults cluster = clusters.computeIfAbsent(clusterId, id -> new ClusterFaults());
+        List<LiveFault> closed = new ArrayList<>();
+
+        cluster.open.compute(uid, (id, current) -> {
+            Map<String, LiveFault> next = new LinkedHashMap<>();
+            for (FaultInfo fault : faults) {
+                String key = keyOf(fault);
+                // 같은 키의 장애가 여러 개면 순번으로 구분
+                for (int n = 2; next.containsKey(key); n++) {
+                    key = keyOf(fault) + "#" + n;
+                }
+                LiveFault previous = current != null ? current.get(key) : null;
+                next.put(key, previous != null
+                    ? previous.withFault(fault)
+                    : new LiveFault(clusterId, uid, fault, now, null));
+            }
+            if (current != null) {
+                current.forEach((key, live) -> {
+                    if (!next.containsKey(key)) {
+                        closed.add(live.resolve(now));
+                    }
+                });
+            }
+            return next.isEmpty() ? null : Collections.unmodifiableMap(next);
+        });
+
+        addResolved(cluster, closed);
+    }
+
+    /**
+     * 삭제된 리소스의 장애를 모두 해결 처리
+     */
+    public void resolveAll(String clusterId, String uid) {
+        ClusterFaults cluster = clusters.get(clusterId);
+        if (cluster == null) {
+            return;
+        }
+        Map<String, LiveFault> removed = cluster.open.remove(uid);
+        if (removed != null) {
+            LocalDateTime now = LocalDateTime.now();
+            addResolved(cluster, removed.values().stream().map(live -> live.resolve(now)).toList());
+        }
+    }
+
+    /**
+     * 주어진 uid 외의 리소스 장애를 해결 처리 (전체 재평가 시 놓친 삭제 이벤트 보정)
+     */
+    public void retainObjects(String clusterId, Set<String> uids) {
+        ClusterFaults cluster = clusters.get(clusterId);
+        if (cluster == null) {
+            return;
+        }
+        for (String uid : List.copyOf(cluster.open.keySet())) {
+            if (!uids.contains(uid)) {
+                resolveAll(clusterId, uid);
+            }
+        }
+    }
+
+    /**
+     * 주어진 클러스터 외의 레지스트리 삭제 (삭제/해제된 클러스터 정리)
+     */
+    public void retainClusters(Collection<String> clusterIds) {
+        clusters.keySet().retainAll(clusterIds);
+    }
+
+    /**
+     * 클러스터의 열린 장애
+     */
+    public List<LiveFault> openFaults(String clusterId) {
+        ClusterFaults cluster = clusters.get(clusterId);
+        if (cluster == null) {
+            return List.of();
+        }
+        List<LiveFault> result = new ArrayList<>();
+        cluster.open.values().forEach(faults -> result.addAll(faults.values()));
+        return result;
+    }
+
+    /**
+     * 네임스페이스의 열린 장애
+     */
+    public List<LiveFault> openFaults(String clusterId, String namespace) {
+        List<LiveFault> result = new ArrayList<>();
+        for (LiveFault live : openFaults(clusterId)) {
+            if (Objects.equals(namespace, live.fault().getNamespace())) {
+                result.add(live);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 최근 해결된 장애 (최근 것부터)
+     */
+    public List<LiveFault> recentlyResolved(String clusterId) {
+        ClusterFaults cluster = clusters.get(clusterId);
+        if (cluster == null) {
+            return List.of();
+        }
+        synchronized (cluster.resolved) {
+            List<LiveFault> result = new ArrayList<>(cluster.resolved);
+            Collections.reverse(result);
+            return result;
+        }
+    }
+
+    private void addResolved(ClusterFaults cluster, List<LiveFault> closed) {
+        if (closed.isEmpty() || maxResolved == 0) {
+            return;
+        }
+        synchronized (cluster.resolved) {
+            cluster.resolved.addAll(closed);
+            while (cluster.resolved.size() > maxResolved) {
+                cluster.resolved.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * 리소스 안에서 장애를 구분하는 키 (유형 + 컨테이너 + 이슈 분류, 요약 문구의 재시작 횟수 등은 제외)
+     */
+    private static String keyOf(FaultInfo fault) {
+        Map<String, Object> context = fault.getContext() != null ? fault.getContext() : Map.of();
+        return fault.getFaultType() + "/" + context.getOrDefault("containerName", "")
+            + "/" + context.getOrDefault("issueCategory", "");
+    }
+}
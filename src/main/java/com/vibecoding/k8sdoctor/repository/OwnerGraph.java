@@ -0,0 +1,134 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터별 owner 그래프 (uid 기준)
+ * - Pod→ReplicaSet→Deployment, Pod→Job→CronJob 등 ownerReference 체인을 메모리에서 추적
+ * - 중간 리소스(ReplicaSet, Job 등)의 uid -> 자신의 controller owner를 보관
+ * - 이름 규칙(마지막 '-' 자르기)에 의존하지 않고 정확한 최상위 워크로드를 찾음
+ */
+public class OwnerGraph {
+
+    // ownerReference 체인을 따라갈 최대 깊이 (순환 참조 방지)
+    private static final int MAX_DEPTH = 8;
+
+    /**
+     * owner 식별 정보
+     */
+    public record Owner(String kind, String name, String uid) {
+    }
+
+    // 리소스 uid -> 해당 리소스의 controller owner
+    private final Map<String, Owner> parents = new ConcurrentHashMap<>();
+
+    // 그래프에 등록된 리소스 uid (owner가 없는 최상위 리소스 포함)
+    private final Set<String> known = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 리소스 추가/갱신 (controller owner가 없으면 그래프에서 제거)
+     */
+    public void put(HasMetadata resource) {
+        ObjectMeta metadata = resource.getMetadata();
+        if (metadata == null || metadata.getUid() == null) {
+            return;
+        }
+        known.add(metadata.getUid());
+        Owner owner = controllerOf(metadata);
+        if (owner != null) {
+            parents.put(metadata.getUid(), owner);
+        } else {
+            parents.remove(metadata.getUid());
+        }
+    }
+
+    /**
+     * 리소스 제거
+     */
+    public void remove(HasMetadata resource) {
+        if (resource.getMetadata() != null && resource.getMetadata().getUid() != null) {
+            parents.remove(resource.getMetadata().getUid());
+            known.remove(resource.getMetadata().getUid());
+        }
+    }
+
+    /**
+     * 리소스의 최상위 owner 조회
+     * - ownerReference가 없으면 리소스 자신
+     * - 중간 owner가 그래프에 없으면 확인된 지점까지의 owner (추측하지 않음)
+     */
+    public Owner resolve(HasMetadata resource) {
+        ObjectMeta metadata = resource.getMetadata();
+        Owner current = controllerOf(metadata);
+        if (current == null) {
+            String kind = resource.getKind() != null ? resource.getKind() : resource.getClass().getSimpleName();
+            return new Owner(kind, metadata.getName(), metadata.getUid());
+        }
+
+        for (int depth = 0; depth < MAX_DEPTH && current.uid() != null; depth++) {
+            Owner parent = parents.get(current.uid());
+            if (parent == null) {
+                break;
+            }
+            current = parent;
+        }
+        return current;
+    }
+
+    /**
+     * resolve와 같지만, 그래프에 없는 ReplicaSet에서 멈추면 이름 규칙으로 Deployment 추정
+     * - ReplicaSet 이름의 pod-template-hash 접미사(마지막 '-' 이후)를 잘라 Deployment 이름으로 사용
+     * - 그래프를 만들 수 없을 때(권한 없음 등)의 fallback용
+     */
+    public Owner resolveOrGuess(HasMetadata resource) {
+        Owner owner = resolve(resource);
+        if (!"ReplicaSet".equals(owner.kind()) || contains(owner.uid()) || owner.name() == null) {
+            return owner;
+        }
+        int lastDash = owner.name().lastIndexOf('-');
+        return lastDash > 0
+            ? new Owner("Deployment", owner.name().substring(0, lastDash), null)
+            : owner;
+    }
+
+    /**
+     * 그래프에 uid가 등록되어 있는지 확인
+     */
+    public boolean contains(String uid) {
+        return uid != null && known.contains(uid);
+    }
+
+    public int size() {
+        return known.size();
+    }
+
+    public void clear() {
+        parents.clear();
+        known.clear();
+    }
+
+    /**
+     * controller=true인 ownerReference (없으면 첫 번째)
+     */
+    static Owner controllerOf(ObjectMeta metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        List<OwnerReference> references = metadata.getOwnerReferences();
+        if (references == null || references.isEmpty()) {
+            return null;
+        }
+        OwnerReference controller = references.stream()
+            .filter(reference -> Boolean.TRUE.equals(reference.getController()))
+            .findFirst()
+            .orElse(references.get(0));
+        return new Owner(controller.getKind(), controller.getName(), controller.getUid());
+    }
+}
@@ -0,0 +1,77 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import com.vibecoding.k8sdoctor.model.PodSnapshot;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Pod Informer store - fabric8 Pod 대신 PodSnapshot만 보관
+ * - watch/LIST로 받은 Pod은 put 시점에 스냅샷으로 변환하고 원본은 보관하지 않음
+ * - 조회(get/values)는 스냅샷 필드만 채운 Pod을 새로 만들어 반환
+ *   (탐지기, 목록 화면, 인덱스는 그대로 동작 / annotations·volumes·env 등이 필요한 상세 조회는 API 서버 사용)
+ * - Pod 인덱스가 쓰는 필드(네임스페이스, 레이블, 노드 이름)는 스냅샷에 포함
+ *   (변경/삭제 시 Informer가 이전 객체로 인덱스를 지우므로 인덱스 함수는 스냅샷 필드만 사용해야 함)
+ */
+public class PodSnapshotItemStore implements ItemStore<Pod> {
+
+    private final Map<String, PodSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final UnaryOperator<String> interner;
+
+    public PodSnapshotItemStore(UnaryOperator<String> interner) {
+        this.interner = interner;
+    }
+
+    @Override
+    public String getKey(Pod pod) {
+        return Cache.metaNamespaceKeyFunc(pod);
+    }
+
+    @Override
+    public Pod put(String key, Pod pod) {
+        return toPod(snapshots.put(key, PodSnapshot.of(pod, interner)));
+    }
+
+    @Override
+    public Pod remove(String key) {
+        return toPod(snapshots.remove(key));
+    }
+
+    @Override
+    public Stream<String> keySet() {
+        return snapshots.keySet().stream();
+    }
+
+    @Override
+    public Stream<Pod> values() {
+        return snapshots.values().stream().map(PodSnapshot::toPod);
+    }
+
+    @Override
+    public Pod get(String key) {
+        return toPod(snapshots.get(key));
+    }
+
+    @Override
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * 원본 전체를 보관하지 않음
+     */
+    @Override
+    public boolean isFullState() {
+        return false;
+    }
+
+    private static Pod toPod(PodSnapshot snapshot) {
+        return snapshot != null ? snapshot.toPod() : null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Informer store에 넣기 전에 객체를 가볍게 만드는 ItemStore
+ * - metadata.managedFields (server-side apply 이력) 제거
+ * - kubectl.kubernetes.io/last-applied-configuration 어노테이션 (리소스 전체 JSON 사본) 제거
+ * - 네임스페이스, 레이블, owner kind, 노드 이름, 이미지 문자열을 클러스터 StringPool 인스턴스로 교체
+ */
+public class PruningItemStore<T extends HasMetadata> extends BasicItemStore<T> {
+
+    static final String LAST_APPLIED_ANNOTATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+    private final UnaryOperator<String> interner;
+
+    public PruningItemStore(UnaryOperator<String> interner) {
+        super(Cache::metaNamespaceKeyFunc);
+        this.interner = interner;
+    }
+
+    @Override
+    public T put(String key, T obj) {
+        prune(obj);
+        dedup(obj, interner);
+        return super.put(key, obj);
+    }
+
+    /**
+     * managedFields 및 last-applied 어노테이션 제거 (객체를 직접 수정)
+     */
+    public static void prune(HasMetadata resource) {
+        ObjectMeta metadata = resource.getMetadata();
+        if (metadata == null) {
+            return;
+        }
+        metadata.setManagedFields(null);
+        if (metadata.getAnnotations() != null && metadata.getAnnotations().containsKey(LAST_APPLIED_ANNOTATION)) {
+            metadata.getAnnotations().remove(LAST_APPLIED_ANNOTATION);
+        }
+    }
+
+    /**
+     * 반복되는 문자열을 풀 인스턴스로 교체 (객체를 직접 수정)
+     */
+    public static void dedup(HasMetadata resource, UnaryOperator<String> interner) {
+        ObjectMeta metadata = resource.getMetadata();
+        if (metadata == null) {
+            return;
+        }
+
+        metadata.setNamespace(interner.apply(metadata.getNamespace()));
+        if (metadata.getLabels() != null && !metadata.getLabels().isEmpty()) {
+            Map<String, String> labels = new LinkedHashMap<>(metadata.getLabels().size() * 2);
+            metadata.getLabels().forEach((key, value) -> labels.put(interner.apply(key), interner.apply(value)));
+            metadata.setLabels(labels);
+        }
+        if (metadata.getOwnerReferences() != null) {
+            for (OwnerReference owner : metadata.getOwnerReferences()) {
+                owner.setApiVersion(interner.apply(owner.getApiVersion()));
+                owner.setKind(interner.apply(owner.getKind()));
+            }
+        }
+
+        if (resource instanceof Pod pod && pod.getSpec() != null) {
+            pod.getSpec().setNodeName(interner.apply(pod.getSpec().getNodeName()));
+            pod.getSpec().setServiceAccountName(interner.apply(pod.getSpec().getServiceAccountName()));
+            dedupContainers(pod.getSpec().getInitContainers(), interner);
+            dedupContainers(pod.getSpec().getContainers(), interner);
+            if (pod.getStatus() != null && pod.getStatus().getContainerStatuses() != null) {
+                pod.getStatus().getContainerStatuses().forEach(status -> {
+                    status.setImage(interner.apply(status.getImage()));
+                    status.setImageID(interner.apply(status.getImageID()));
+                });
+            }
+        }
+    }
+
+    private static void dedupContainers(List<Container> containers, UnaryOperator<String> interner) {
+        if (containers == null) {
+            return;
+        }
+        for (Container container : containers) {
+            container.setName(interner.apply(container.getName()));
+            container.setImage(interner.apply(container.getImage()));
+        }
+    }
+}
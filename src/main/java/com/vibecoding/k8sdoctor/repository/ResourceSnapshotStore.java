@@ -0,0 +1,254 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 클러스터 리소스 캐시 스냅샷 파일 저장소 (재시작 시 warm start용)
+ * - 클러스터마다 파일 하나: 헤더 + 리소스 종류별 섹션(resourceVersion, 항목 수, 길이-접두 항목)
+ * - 항목은 prune된 객체의 JSON 바이트 (managedFields/last-applied 없음)
+ * - 쓰기는 임시 파일에 쓴 뒤 rename (쓰는 중에 종료되어도 이전 스냅샷 유지)
+ * - 읽기는 memory-mapped 버퍼에서 항목별로 바로 역직렬화 (파일 전체를 힙에 복사하지 않음)
+ * - max-age보다 오래된 스냅샷은 사용하지 않음
+ * - 기본값은 비활성 (평문 파일이므로 명시적으로 켜야 함)
+ *   컨테이너 env의 literal value는 저장하지 않음 (이름과 valueFrom 참조만 유지)
+ */
+@Component
+public class ResourceSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceSnapshotStore.class);
+
+    // 파일 식별자 ("K8SD") 및 형식 버전
+    private static final int MAGIC = 0x4B385344;
+    private static final short FORMAT_VERSION = 1;
+
+    private static final String FILE_SUFFIX = ".snap";
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration maxAge;
+
+    public ResourceSnapshotStore(
+        @Value("${kubernetes.cache.snapshot.enabled:false}") boolean enabled,
+        @Value("${kubernetes.cache.snapshot.dir:./data/cache-snapshots}") String directory,
+        @Value("${kubernetes.cache.snapshot.max-age:30m}") Duration maxAge
+    ) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * 리소스 종류 하나의 스냅샷 (LIST/watch 기준 resourceVersion + 항목)
+     */
+    public record Section(String resourceVersion, List<? extends HasMetadata> items) {
+    }
+
+    /**
+     * 클러스터 스냅샷
+     */
+    public record Snapshot(String clusterId, long savedAt, Map<Class<? extends HasMetadata>, Section> sections) {
+
+        public int itemCount() {
+            return sections.values().stream().mapToInt(section -> section.items().size()).sum();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 스냅샷을 사용할 수 있는 최대 나이 (warm start 데이터 만료 기준)
+     */
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일 → rename)
+     */
+    public void save(String clusterId, Map<Class<? extends HasMetadata>, Section> sections) throws IOException {
+        if (!enabled || sections.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Path target = fileOf(clusterId);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING),
+                64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeLong(System.currentTimeMillis());
+            writeString(out, clusterId);
+            out.writeInt(sections.size());
+
+            for (Map.Entry<Class<? extends HasMetadata>, Section> entry : sections.entrySet()) {
+                writeString(out, entry.getKey().getName());
+                writeString(out, entry.getValue().resourceVersion());
+                out.writeInt(entry.getValue().items().size());
+                for (HasMetadata item : entry.getValue().items()) {
+                    JsonNode tree = mapper.valueToTree(item);
+                    stripEnvValues(tree);
+                    byte[] json = mapper.writeValueAsBytes(tree);
+                    out.writeInt(json.length);
+                    out.write(json);
+                }
+            }
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 로드 (없거나, 오래되었거나, 손상되었으면 empty)
+     * - allowedTypes에 없는 종류의 섹션은 건너뜀
+     */
+    public Optional<Snapshot> load(String clusterId, List<Class<? extends HasMetadata>> allowedTypes) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path file = fileOf(clusterId);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                log.warn("Ignoring cache snapshot with unknown format: {}", file);
+                return Optional.empty();
+            }
+            long savedAt = buffer.getLong();
+            String storedClusterId = readString(buffer);
+            if (!clusterId.equals(storedClusterId)) {
+                log.warn("Ignoring cache snapshot of another cluster: {}", file);
+                return Optional.empty();
+            }
+            if (System.currentTimeMillis() - savedAt > maxAge.toMillis()) {
+                log.info("Ignoring stale cache snapshot for cluster {} (saved {}s ago)",
+                    clusterId, (System.currentTimeMillis() - savedAt) / 1000);
+                return Optional.empty();
+            }
+
+            Map<String, Class<? extends HasMetadata>> typesByName = new LinkedHashMap<>();
+            allowedTypes.forEach(type -> typesByName.put(type.getName(), type));
+
+            Map<Class<? extends HasMetadata>, Section> sections = new LinkedHashMap<>();
+            int sectionCount = buffer.getInt();
+            for (int i = 0; i < sectionCount; i++) {
+                Class<? extends HasMetadata> type = typesByName.get(readString(buffer));
+                String resourceVersion = readString(buffer);
+                int itemCount = buffer.getInt();
+
+                List<HasMetadata> items = type != null ? new ArrayList<>(itemCount) : null;
+                for (int j = 0; j < itemCount; j++) {
+                    int length = buffer.getInt();
+                    if (items != null) {
+                        ByteBuffer item = buffer.slice(buffer.position(), length);
+                        items.add(mapper.readValue(new ByteBufferBackedInputStream(item), type));
+                    }
+                    buffer.position(buffer.position() + length);
+                }
+                if (type != null) {
+                    sections.put(type, new Section(resourceVersion, items));
+                }
+            }
+
+            return Optional.of(new Snapshot(clusterId, savedAt, sections));
+        } catch (IOException | RuntimeException e) {
+            // 손상된 파일은 무시 (일반 LIST로 초기화)
+            log.warn("Failed to read cache snapshot for cluster {}: {}", clusterId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷 삭제 (클러스터 삭제 시)
+     */
+    public void delete(String clusterId) {
+        try {
+            Files.deleteIfExists(fileOf(clusterId));
+        } catch (IOException e) {
+            log.warn("Failed to delete cache snapshot for cluster {}: {}", clusterId, e.getMessage());
+        }
+    }
+
+    /**
+     * 컨테이너 env 항목의 literal value 제거 (Pod spec과 워크로드의 Pod template 모두)
+     * - 비밀번호 등이 평문 env로 들어 있어도 스냅샷 파일에는 남지 않음
+     */
+    private static void stripEnvValues(JsonNode node) {
+        if (node.isObject()) {
+            JsonNode env = node.get("env");
+            if (env != null && env.isArray()) {
+                env.forEach(variable -> {
+                    if (variable.isObject()) {
+                        ((ObjectNode) variable).remove("value");
+                    }
+                });
+            }
+            node.forEach(ResourceSnapshotStore::stripEnvValues);
+        } else if (node.isArray()) {
+            node.forEach(ResourceSnapshotStore::stripEnvValues);
+        }
+    }
+
+    private Path fileOf(String clusterId) {
+        // 파일 이름에 쓸 수 없는 문자는 치환
+        return directory.resolve(clusterId.replaceAll("[^A-Za-z0-9_.-]", "_") + FILE_SUFFIX);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
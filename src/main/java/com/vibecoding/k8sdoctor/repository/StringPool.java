@@ -0,0 +1,77 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * 클러스터별 문자열 중복 제거 풀 (크기 제한)
+ * - 네임스페이스, 레이블 키/값, 이미지, 노드 이름처럼 수천 개 객체에서 반복되는 문자열을 한 인스턴스로 공유
+ * - String.intern()과 달리 클러스터 삭제 시 풀 전체가 함께 해제됨
+ * - maxEntries를 넘으면 자주 쓰이지 않는 문자열부터 제거 (Caffeine W-TinyLFU, 가득 차도 계속 등록)
+ * - hit/miss/eviction 통계는 bindTo()로 actuator metrics에 노출 (cache.gets?tag=cache:string-pool)
+ */
+public class StringPool implements UnaryOperator<String> {
+
+    /** metrics의 cache 태그 값 */
+    public static final String METRIC_NAME = "string-pool";
+
+    // 이 길이를 넘는 문자열은 반복될 가능성이 낮으므로 등록하지 않음
+    private static final int MAX_LENGTH = 256;
+
+    private final Cache<String, String> pool;
+
+    public StringPool(int maxEntries) {
+        this.pool = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 풀에 있는 같은 값의 인스턴스 반환 (없으면 등록 후 반환)
+     */
+    @Override
+    public String apply(String value) {
+        if (value == null || value.length() > MAX_LENGTH) {
+            return value;
+        }
+
+        String pooled = pool.getIfPresent(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        pooled = pool.asMap().putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    /**
+     * 통계를 클러스터 태그와 함께 등록 (cache.gets, cache.size, cache.evictions 등)
+     */
+    public void bindTo(MeterRegistry registry, String clusterId) {
+        CaffeineCacheMetrics.monitor(registry, pool, METRIC_NAME, "cluster", clusterId);
+    }
+
+    public long size() {
+        return pool.estimatedSize();
+    }
+
+    public long getHits() {
+        return pool.stats().hitCount();
+    }
+
+    public long getMisses() {
+        return pool.stats().missCount();
+    }
+
+    public long getEvictions() {
+        return pool.stats().evictionCount();
+    }
+
+    public void clear() {
+        pool.invalidateAll();
+    }
+}
@@ -97,7 +97,8 @@ public class AIDiagnosisService {
                 events = k8sService.getPodEvents(
                     getClusterIdFromContext(fault),
                     fault.getNamespace(),
-                    fault.getResourceName()
+                    fault.getResourceName(),
+                    fault.getResourceUid()
                 );
             } catch (Exception e) {
                 log.warn("Failed to fetch logs/events for pod {}: {}", fault.getResourceName(), e.getMessage());
@@ -112,7 +113,8 @@ public class AIDiagnosisService {
                 events = k8sService.getJobEvents(
                     getClusterIdFromContext(fault),
                     fault.getNamespace(),
-                    fault.getResourceName()
+                    fault.getResourceName(),
+                    fault.getResourceUid()
                 );
             } catch (Exception e) {
                 log.warn("Failed to fetch logs/events for job {}: {}", fault.getResourceName(), e.getMessage());
@@ -122,7 +124,8 @@ public class AIDiagnosisService {
                 events = k8sService.getCronJobEvents(
                     getClusterIdFromContext(fault),
                     fault.getNamespace(),
-                    fault.getResourceName()
+                    fault.getResourceName(),
+                    fault.getResourceUid()
                 );
             } catch (Exception e) {
                 log.warn("Failed to fetch events for cronjob {}: {}", fault.getResourceName(), e.getMessage());
@@ -1402,6 +1405,9 @@ public class AIDiagnosisService {
                 case "Job":
                     resource = k8sService.getJob(clusterId, namespace, ownerName);
                     break;
+                case "CronJob":
+                    resource = k8sService.getCronJob(clusterId, namespace, ownerName);
+                    break;
                 default:
                     resource = k8sService.getPod(clusterId, namespace, fault.getResourceName());
                     break;
@@ -0,0 +1,411 @@
+package com.vibecoding.k8sdoctor.service;
+
+import com.vibecoding.k8sdoctor.exception.K8sApiException;
+import com.vibecoding.k8sdoctor.exception.K8sThrottledException;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 클러스터별 API 동시 요청 제한 (bulkhead + AIMD 적응형 한도)
+ * - 클러스터마다 동시 요청 수(limit)와 대기열 크기(max-queue)를 따로 관리
+ * - 대기열이 가득 차거나 acquire-timeout 안에 슬롯을 얻지 못하면 즉시 K8sThrottledException
+ *   (느린 클러스터 하나가 서블릿 스레드를 모두 붙잡지 않도록)
+ * - 성공 + 지연 시간 정상: limit += 1/limit (additive increase)
+ * - 429 응답: limit *= 0.5, Retry-After 동안 새 요청 보류 (multiplicative decrease)
+ * - 지연 시간 초과: limit *= 0.9
+ *   작업 종류(operation)별 기준 지연 시간(관측한 최소값)의 2배를 넘고 latency-target도 넘을 때만 초과로 봄
+ *   (클러스터 전체 LIST처럼 원래 오래 걸리는 요청이 한도를 계속 줄이지 않도록)
+ * - 감소는 지난 감소 이후에 시작한 요청의 결과로만 (같은 시점에 느려진 요청 여러 개가 한도를 연달아 줄이지 않음)
+ * - Retry-After는 429 응답 헤더(API Priority & Fairness)와 Status.details.retryAfterSeconds 모두 사용
+ *   (헤더는 retryAfterInterceptor()를 클라이언트에 등록해야 읽을 수 있음)
+ * - 비동기 호출(callAsync)은 클러스터마다 따로 둔 작은 스레드 풀에서 슬롯을 기다림
+ *   (한 클러스터가 보류/지연되어도 다른 클러스터의 선조회 스레드를 붙잡지 않음)
+ */
+@Component
+public class ClusterConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterConcurrencyLimiter.class);
+
+    /** 작업 종류를 지정하지 않은 요청 (단건 GET 등) */
+    public static final String DEFAULT_OPERATION = "request";
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    // Retry-After 헤더가 없을 때 기본 보류 시간 (초)
+    private static final int DEFAULT_RETRY_AFTER_SECONDS = 1;
+
+    // 기준 지연 시간 대비 이 배수를 넘으면 지연 시간 초과
+    private static final double LATENCY_TOLERANCE = 2.0;
+
+    // 기준 지연 시간이 요청마다 올라갈 수 있는 비율 (기준 = 관측 최소값, 느려진 상태가 계속되면 천천히 따라감)
+    private static final double BASELINE_DRIFT = 1.05;
+
+    // 클러스터별 비동기 호출 스레드 수와 유휴 스레드 유지 시간
+    private static final int ASYNC_THREADS_PER_CLUSTER = 2;
+    private static final long ASYNC_KEEP_ALIVE_SECONDS = 30;
+
+    private final double initialLimit;
+    private final double minLimit;
+    private final double maxLimit;
+    private final int maxQueue;
+    private final long acquireTimeoutNanos;
+    private final long latencyTargetNanos;
+
+    // 클러스터 ID -> 제한 상태
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    public ClusterConcurrencyLimiter(
+        @Value("${kubernetes.limiter.initial-limit:8}") int initialLimit,
+        @Value("${kubernetes.limiter.min-limit:1}") int minLimit,
+        @Value("${kubernetes.limiter.max-limit:32}") int maxLimit,
+        @Value("${kubernetes.limiter.max-queue:32}") int maxQueue,
+        @Value("${kubernetes.limiter.acquire-timeout-ms:10000}") long acquireTimeoutMs,
+        @Value("${kubernetes.limiter.latency-target-ms:2000}") long latencyTargetMs
+    ) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.initialLimit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.maxQueue = Math.max(0, maxQueue);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMs);
+    }
+
+    /**
+     * 클러스터 슬롯을 얻은 뒤 API 호출 실행
+     */
+    public <T> T call(String clusterId, Supplier<T> call) {
+        return call(clusterId, DEFAULT_OPERATION, call);
+    }
+
+    /**
+     * 클러스터 슬롯을 얻은 뒤 API 호출 실행 (operation: 지연 시간 기준을 따로 두는 작업 종류, 예: "list/pods")
+     */
+    public <T> T call(String clusterId, String operation, Supplier<T> call) {
+        Limiter limiter = limiter(clusterId);
+        limiter.acquire();
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            limiter.onSuccess(operation, start, System.nanoTime() - start);
+            return result;
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == HTTP_TOO_MANY_REQUESTS) {
+                limiter.onThrottled(start, retryAfterSeconds(e));
+            }
+            throw e;
+        } finally {
+            limiter.release();
+        }
+    }
+
+    /**
+     * 클러스터 전용 스레드 풀에서 슬롯을 얻은 뒤 API 호출 실행 (페이지 선조회 등)
+     * - 슬롯 대기는 해당 클러스터의 스레드만 점유
+     */
+    public <T> CompletableFuture<T> callAsync(String clusterId, String operation, Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> call(clusterId, operation, call),
+            limiter(clusterId).asyncExecutor());
+    }
+
+    /**
+     * 429 응답의 Retry-After 헤더를 읽어 클러스터 요청을 보류하는 HTTP 인터셉터
+     * - API Priority & Fairness의 429는 본문이 Status가 아니라서 Retry-After가 헤더에만 있음
+     * - Informer/watch처럼 call()을 거치지 않는 요청의 429도 보류 시간에 반영
+     */
+    public Interceptor retryAfterInterceptor(String clusterId) {
+        return new Interceptor() {
+            @Override
+            public CompletableFuture<Boolean> afterFailure(BasicBuilder builder, HttpResponse<?> response,
+                                                           RequestTags tags) {
+                if (response.code() == HTTP_TOO_MANY_REQUESTS) {
+                    Integer seconds = parseRetryAfter(response.header(RETRY_AFTER_HEADER));
+                    limiter(clusterId).blockFor(seconds != null ? seconds : DEFAULT_RETRY_AFTER_SECONDS);
+                }
+                return CompletableFuture.completedFuture(false);
+            }
+        };
+    }
+
+    /**
+     * 클러스터 삭제 시 제한 상태 제거
+     */
+    public void remove(String clusterId) {
+        Limiter removed = limiters.remove(clusterId);
+        if (removed != null) {
+            removed.shutdown();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        limiters.values().forEach(Limiter::shutdown);
+    }
+
+    /**
+     * 현재 동시 요청 한도 (모니터링용)
+     */
+    public int currentLimit(String clusterId) {
+        Limiter limiter = limiters.get(clusterId);
+        return limiter != null ? limiter.effectiveLimit() : (int) initialLimit;
+    }
+
+    /**
+     * 슬롯을 기다리는 요청 수 (모니터링용)
+     */
+    public int queued(String clusterId) {
+        Limiter limiter = limiters.get(clusterId);
+        return limiter != null ? limiter.queued() : 0;
+    }
+
+    private Limiter limiter(String clusterId) {
+        return limiters.computeIfAbsent(clusterId, Limiter::new);
+    }
+
+    private static int retryAfterSeconds(KubernetesClientException e) {
+        Status status = e.getStatus();
+        if (status != null && status.getDetails() != null && status.getDetails().getRetryAfterSeconds() != null) {
+            return Math.max(1, status.getDetails().getRetryAfterSeconds());
+        }
+        return DEFAULT_RETRY_AFTER_SECONDS;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 숫자 또는 HTTP-date, 해석할 수 없으면 null)
+     */
+    static Integer parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(1, Integer.parseInt(trimmed));
+        } catch (NumberFormatException e) {
+            // HTTP-date 형식
+        }
+        try {
+            ZonedDateTime until = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            long seconds = Duration.between(ZonedDateTime.now(until.getZone()), until).toSeconds();
+            return (int) Math.max(1, Math.min(Integer.MAX_VALUE, seconds));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 클러스터 하나의 제한 상태
+     */
+    private final class Limiter {
+        private final String clusterId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+
+        // 작업 종류 -> 기준 지연 시간 (나노초)
+        private final Map<String, Long> baselines = new HashMap<>();
+
+        private double limit = initialLimit;
+        private int inFlight;
+        private int waiting;
+        private long blockedUntilNanos;
+        private boolean blocked;
+        private long lastDecreaseNanos;
+        private boolean decreased;
+
+        // 비동기 호출용 스레드 풀 (처음 사용할 때 생성)
+        private ThreadPoolExecutor asyncExecutor;
+
+        private Limiter(String clusterId) {
+            this.clusterId = clusterId;
+        }
+
+        private ExecutorService asyncExecutor() {
+            lock.lock();
+            try {
+                if (asyncExecutor == null) {
+                    AtomicInteger counter = new AtomicInteger();
+                    asyncExecutor = new ThreadPoolExecutor(ASYNC_THREADS_PER_CLUSTER, ASYNC_THREADS_PER_CLUSTER,
+                        ASYNC_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                            Thread thread = new Thread(runnable,
+                                "k8s-prefetch-" + clusterId + "-" + counter.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+                    asyncExecutor.allowCoreThreadTimeOut(true);
+                }
+                return asyncExecutor;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void shutdown() {
+            lock.lock();
+            try {
+                if (asyncExecutor != null) {
+                    asyncExecutor.shutdownNow();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int effectiveLimit() {
+            return (int) Math.floor(limit);
+        }
+
+        private int queued() {
+            lock.lock();
+            try {
+                return waiting;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void acquire() {
+            lock.lock();
+            try {
+                if (canEnter()) {
+                    inFlight++;
+                    return;
+                }
+                if (waiting >= maxQueue) {
+                    throw new K8sThrottledException("Too many queued requests for cluster: " + clusterId);
+                }
+
+                waiting++;
+                try {
+                    long deadline = System.nanoTime() + acquireTimeoutNanos;
+                    while (!canEnter()) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            throw new K8sThrottledException("Timed out waiting for API slot in cluster: " + clusterId);
+                        }
+                        long wait = blocked ? Math.min(remaining, blockedUntilNanos - System.nanoTime()) : remaining;
+                        changed.awaitNanos(Math.max(1, wait));
+                    }
+                    inFlight++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new K8sApiException("Interrupted while waiting for API slot in cluster: " + clusterId, e);
+                } finally {
+                    waiting--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean canEnter() {
+            if (blocked && System.nanoTime() - blockedUntilNanos < 0) {
+                return false;
+            }
+            blocked = false;
+            return inFlight < effectiveLimit();
+        }
+
+        private void release() {
+            lock.lock();
+            try {
+                inFlight--;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onSuccess(String operation, long startNanos, long latencyNanos) {
+            lock.lock();
+            try {
+                Long baseline = baselines.get(operation);
+                baselines.put(operation, baseline == null
+                    ? latencyNanos
+                    : Math.min(latencyNanos, (long) (baseline * BASELINE_DRIFT)));
+
+                boolean slow = baseline != null
+                    && latencyNanos > latencyTargetNanos
+                    && latencyNanos > baseline * LATENCY_TOLERANCE;
+                if (!slow) {
+                    limit = Math.min(maxLimit, limit + 1.0 / limit);
+                } else if (startedAfterLastDecrease(startNanos)) {
+                    decrease(0.9);
+                    log.debug("Slow {} in cluster {} ({}ms, baseline {}ms), limit -> {}", operation, clusterId,
+                        TimeUnit.NANOSECONDS.toMillis(latencyNanos), TimeUnit.NANOSECONDS.toMillis(baseline),
+                        effectiveLimit());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onThrottled(long startNanos, int retryAfterSeconds) {
+            lock.lock();
+            try {
+                if (startedAfterLastDecrease(startNanos)) {
+                    decrease(0.5);
+                }
+                block(retryAfterSeconds);
+                log.warn("API server throttled cluster {} (429), limit -> {}, retry after {}s",
+                    clusterId, effectiveLimit(), retryAfterSeconds);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void blockFor(int retryAfterSeconds) {
+            lock.lock();
+            try {
+                block(retryAfterSeconds);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 지난 감소 이후에 시작한 요청인지 (그 전에 시작한 요청은 이미 반영된 과부하를 겪은 것)
+         */
+        private boolean startedAfterLastDecrease(long startNanos) {
+            return !decreased || startNanos - lastDecreaseNanos > 0;
+        }
+
+        private void decrease(double factor) {
+            limit = Math.max(minLimit, limit * factor);
+            lastDecreaseNanos = System.nanoTime();
+            decreased = true;
+        }
+
+        private void block(int retryAfterSeconds) {
+            long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(retryAfterSeconds);
+            if (!blocked || until - blockedUntilNanos > 0) {
+                blockedUntilNanos = until;
+            }
+            blocked = true;
+        }
+    }
+}
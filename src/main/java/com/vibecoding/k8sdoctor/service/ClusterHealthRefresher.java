@@ -0,0 +1,143 @@
+package com.vibecoding.k8sdoctor.service;
+
+import com.vibecoding.k8sdoctor.model.ClusterInfo;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 클러스터 상태 백그라운드 갱신
+ * - 주기적으로 각 클러스터에 연결 테스트를 수행하고 결과를 ClusterService 스냅샷에 반영
+ * - 초기화에 실패한 클러스터는 연결 테스트에서 초기화를 다시 시도 (실패 시 ERROR 상태로 반영)
+ * - 클러스터별 다음 실행 시각에 jitter를 더해 동시에 몰리지 않도록 분산
+ * - 연속 실패 시 지수 백오프 (max-backoff-seconds 상한)
+ * - 페이지 요청은 이 작업을 기다리지 않고 스냅샷만 조회
+ */
+@Service
+public class ClusterHealthRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterHealthRefresher.class);
+
+    // 실행 간격에 더하는 최대 jitter 비율
+    private static final double JITTER_RATIO = 0.2;
+
+    private final ClusterService clusterService;
+    private final long intervalMillis;
+    private final long maxBackoffMillis;
+    private final ExecutorService probeExecutor;
+
+    // 클러스터별 갱신 상태 (ID -> 상태)
+    private final Map<String, ProbeState> states = new ConcurrentHashMap<>();
+
+    public ClusterHealthRefresher(
+        ClusterService clusterService,
+        @Value("${cluster.health.interval-seconds:60}") long intervalSeconds,
+        @Value("${cluster.health.max-backoff-seconds:600}") long maxBackoffSeconds,
+        @Value("${cluster.health.concurrency:4}") int concurrency
+    ) {
+        this.clusterService = clusterService;
+        this.intervalMillis = intervalSeconds * 1000L;
+        this.maxBackoffMillis = Math.max(intervalSeconds, maxBackoffSeconds) * 1000L;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.probeExecutor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "cluster-health-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        probeExecutor.shutdownNow();
+    }
+
+    /**
+     * 스케줄러 tick - 실행 시각이 된 클러스터만 bounded executor에 제출
+     */
+    @Scheduled(fixedDelayString = "${cluster.health.tick-ms:5000}",
+               initialDelayString = "${cluster.health.tick-ms:5000}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+
+        Set<String> clusterIds = clusterService.listClusters().stream()
+            .map(ClusterInfo::getId)
+            .collect(Collectors.toSet());
+
+        // 삭제된 클러스터 상태 정리
+        states.keySet().retainAll(clusterIds);
+
+        for (String clusterId : clusterIds) {
+            // 첫 실행 시각에도 jitter를 적용해 시작 직후 일제히 실행되지 않도록 함
+            ProbeState state = states.computeIfAbsent(clusterId,
+                id -> new ProbeState(now + jitter(intervalMillis)));
+
+            if (state.inFlight || now < state.nextProbeAt) {
+                continue;
+            }
+
+            state.inFlight = true;
+            try {
+                probeExecutor.execute(() -> probe(clusterId, state));
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                state.inFlight = false;
+            }
+        }
+    }
+
+    private void probe(String clusterId, ProbeState state) {
+        try {
+            clusterService.testConnection(clusterId);
+            state.consecutiveFailures = 0;
+            state.nextProbeAt = System.currentTimeMillis() + intervalMillis + jitter(intervalMillis);
+        } catch (Exception e) {
+            state.consecutiveFailures++;
+            long backoff = backoff(state.consecutiveFailures);
+            state.nextProbeAt = System.currentTimeMillis() + backoff + jitter(backoff);
+            log.warn("Health check failed for cluster {} ({} consecutive), next in {}s: {}",
+                clusterId, state.consecutiveFailures, backoff / 1000, e.getMessage());
+        } finally {
+            state.inFlight = false;
+        }
+    }
+
+    /**
+     * 연속 실패 횟수에 따른 백오프 (interval * 2^(n-1), 상한 maxBackoff)
+     */
+    private long backoff(int failures) {
+        int shift = Math.min(failures - 1, 20);
+        return Math.min(maxBackoffMillis, intervalMillis << shift);
+    }
+
+    private static long jitter(long base) {
+        long bound = (long) (base * JITTER_RATIO);
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound) : 0L;
+    }
+
+    /**
+     * 클러스터별 갱신 상태
+     */
+    private static final class ProbeState {
+        private volatile long nextProbeAt;
+        private volatile int consecutiveFailures;
+        private volatile boolean inFlight;
+
+        private ProbeState(long nextProbeAt) {
+            this.nextProbeAt = nextProbeAt;
+        }
+    }
+}
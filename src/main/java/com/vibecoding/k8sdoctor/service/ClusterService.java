@@ -1,28 +1,70 @@
 package com.vibecoding.k8sdoctor.service;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vibecoding.k8sdoctor.model.ClusterConfig;
 import com.vibecoding.k8sdoctor.model.ClusterInfo;
+import com.vibecoding.k8sdoctor.model.ClusterReadiness;
 import com.vibecoding.k8sdoctor.model.ClusterStatus;
+import com.vibecoding.k8sdoctor.repository.ClusterDumpReader;
+import com.vibecoding.k8sdoctor.repository.ClusterResourceCache;
 import com.vibecoding.k8sdoctor.repository.ClusterRepository;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 클러스터 관리 서비스
+ * - API 서버 URL이 file:로 시작하면 kubectl get -o json 덤프 기반 오프라인 클러스터로 등록
+ *   (모든 조회를 덤프로 채운 캐시에서 처리하며 네트워크 연결 없음)
+ *   덤프 경로는 kubernetes.dump.root 안만 허용 (상대 경로는 root 기준, 읽는 파일 수/크기 제한)
  */
 @Service
 @RequiredArgsConstructor
@@ -30,10 +72,59 @@ public class ClusterService {
 
     private static final Logger log = LoggerFactory.getLogger(ClusterService.class);
 
+    // remainingItemCount가 없을 때 개수를 세기 위한 페이지 크기
+    private static final long COUNT_PAGE_SIZE = 500L;
+
+    // 개수를 셀 때 메타데이터만 받기 위한 Accept 헤더 (PartialObjectMetadataList, 미지원 서버는 일반 JSON)
+    private static final String METADATA_LIST_ACCEPT =
+        "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,application/json";
+
+    // 클러스터 초기화 대기 최대 시간 (초)
+    private static final long BOOTSTRAP_WAIT_SECONDS = 15L;
+
+    /** 덤프 기반 오프라인 클러스터 URL 접두사 (예: file:prod-dump, file:///srv/dumps/prod-dump) */
+    public static final String DUMP_URL_PREFIX = "file:";
+
+    // 덤프 클러스터용 클라이언트 주소 (연결하지 않음 - 오프라인 클러스터는 API 서버를 호출하지 않음)
+    private static final String DUMP_MASTER_URL = "http://127.0.0.1:1";
+
     private final ClusterRepository clusterRepository;
+    private final ClusterConcurrencyLimiter concurrencyLimiter;
+
+    // 메타데이터 목록 역직렬화
+    private final ObjectMapper metadataMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    // 덤프를 읽을 수 있는 루트 디렉터리 (등록 폼에 입력한 경로는 이 안에서만 허용)
+    @Value("${kubernetes.dump.root:./data/dumps}")
+    private String dumpRoot;
+
+    // 덤프 하나에서 읽는 최대 파일 수 (zip 항목 포함)
+    @Value("${kubernetes.dump.max-files:1000}")
+    private int dumpMaxFiles;
+
+    // 덤프 하나에서 읽는 최대 바이트 수 (압축 해제 후)
+    @Value("${kubernetes.dump.max-bytes:1073741824}")
+    private long dumpMaxBytes;
+
+    // 최신 ClusterInfo 스냅샷 (ID -> ClusterInfo) - 페이지 조회는 DB/네트워크 없이 여기서 읽음
+    private final Map<String, ClusterInfo> infoSnapshot = new ConcurrentHashMap<>();
+
+    // 클러스터별 초기화 상태 (ID -> 초기화 Future)
+    private final Map<String, CompletableFuture<KubernetesClient>> bootstraps = new ConcurrentHashMap<>();
+
+    // 클러스터 초기화용 bounded executor (데몬 스레드)
+    private final AtomicInteger bootstrapThreadCount = new AtomicInteger();
+    private final ExecutorService bootstrapExecutor = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "cluster-bootstrap-" + bootstrapThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * 애플리케이션 시작 시 DB에서 클러스터 로드 및 KubernetesClient 재생성
+     * - 클러스터별 초기화를 bounded executor에서 병렬로 실행하고 기다리지 않음
+     * - 초기화가 끝나기 전에 요청이 오면 getKubernetesClient()에서 해당 클러스터만 대기
      */
     @PostConstruct
     public void initializeClusters() {
@@ -43,28 +134,68 @@ public class ClusterService {
         log.info("Found {} clusters in database", clusters.size());
 
         for (ClusterInfo info : clusters) {
-            try {
-                // ClusterConfig 로드
-                Optional<ClusterConfig> configOpt = clusterRepository.findConfigById(info.getId());
-                if (configOpt.isEmpty()) {
-                    log.warn("ClusterConfig not found for cluster: {}", info.getId());
-                    continue;
-                }
+            infoSnapshot.put(info.getId(), info);
+            bootstrapCluster(info.getId());
+        }
+
+        log.info("Cluster initialization scheduled for {} clusters", clusters.size());
+    }
 
-                ClusterConfig config = configOpt.get();
+    @PreDestroy
+    public void shutdown() {
+        bootstrapExecutor.shutdownNow();
+    }
+
+    /**
+     * 클러스터 초기화 시작 (이미 진행 중이거나 완료된 경우 기존 Future 반환)
+     */
+    private CompletableFuture<KubernetesClient> bootstrapCluster(String clusterId) {
+        return bootstraps.compute(clusterId, (id, existing) -> {
+            if (existing != null && !existing.isCompletedExceptionally()) {
+                return existing;
+            }
+            return CompletableFuture.supplyAsync(() -> initializeCluster(id), bootstrapExecutor);
+        });
+    }
 
-                // KubernetesClient 재생성
-                KubernetesClient client = createKubernetesClient(config);
-                clusterRepository.saveClient(info.getId(), client);
+    private KubernetesClient initializeCluster(String clusterId) {
+        try {
+            // ClusterConfig 로드
+            ClusterConfig config = clusterRepository.findConfigById(clusterId)
+                .orElseThrow(() -> new IllegalStateException("ClusterConfig not found for cluster: " + clusterId));
 
-                log.info("Successfully initialized cluster: {} ({})", info.getName(), info.getId());
-            } catch (Exception e) {
-                log.error("Failed to initialize cluster: {} ({})", info.getName(), info.getId(), e);
-                // 초기화 실패해도 계속 진행 (다른 클러스터들은 초기화)
+            // KubernetesClient 재생성 (덤프 클러스터는 덤프를 다시 읽음)
+            KubernetesClient client = createKubernetesClient(config);
+            if (isDumpSource(config.getApiServerUrl())) {
+                loadDump(clusterId, config, client);
+            } else {
+                clusterRepository.saveClient(clusterId, client);
             }
+
+            log.info("Successfully initialized cluster: {} ({})", config.getName(), clusterId);
+            return client;
+        } catch (Exception e) {
+            // 초기화 실패해도 다른 클러스터에는 영향 없음 (다음 조회 시 재시도)
+            log.error("Failed to initialize cluster: {}", clusterId, e);
+            throw e;
         }
+    }
 
-        log.info("Cluster initialization completed");
+    /**
+     * 클러스터 준비 상태 조회 (클러스터 목록 화면에 표시)
+     */
+    public ClusterReadiness getReadiness(String clusterId) {
+        if (clusterRepository.findClientById(clusterId).isPresent()) {
+            return ClusterReadiness.READY;
+        }
+        CompletableFuture<KubernetesClient> bootstrap = bootstraps.get(clusterId);
+        if (bootstrap == null) {
+            return ClusterReadiness.NOT_STARTED;
+        }
+        if (bootstrap.isCompletedExceptionally()) {
+            return ClusterReadiness.FAILED;
+        }
+        return bootstrap.isDone() ? ClusterReadiness.READY : ClusterReadiness.INITIALIZING;
     }
 
     /**
@@ -77,10 +208,16 @@ public class ClusterService {
         String clusterId = UUID.randomUUID().toString();
         config.setId(clusterId);
 
+        boolean dumpSource = isDumpSource(config.getApiServerUrl());
         try {
             // Kubernetes 클라이언트 생성
             KubernetesClient client = createKubernetesClient(config);
 
+            // 덤프 클러스터는 정보 수집 전에 덤프를 캐시에 적재
+            if (dumpSource) {
+                loadDump(clusterId, config, client);
+            }
+
             // 연결 테스트 및 정보 수집
             ClusterInfo info = collectClusterInfo(clusterId, config, client);
 
@@ -89,14 +226,19 @@ public class ClusterService {
 
             // 저장
             clusterRepository.saveConfig(config);
-            clusterRepository.saveInfo(info);
-            clusterRepository.saveClient(clusterId, client);
+            saveInfo(info);
+            if (!dumpSource) {
+                clusterRepository.saveClient(clusterId, client);
+            }
 
             log.info("Successfully registered cluster: {} (ID: {})", config.getName(), clusterId);
             return info;
 
         } catch (Exception e) {
             log.error("Failed to register cluster: {}", config.getName(), e);
+            if (dumpSource) {
+                clusterRepository.releaseClient(clusterId);
+            }
             // 등록 실패 시 저장하지 않고 바로 예외를 던짐
             throw new RuntimeException("Failed to connect to cluster: " + e.getMessage(), e);
         }
@@ -109,17 +251,21 @@ public class ClusterService {
         try {
             // API 서버 URL과 토큰으로 설정
             // autoConfigure(false)로 설정하여 ~/.kube/config 자동 로드 방지
+            boolean dumpSource = isDumpSource(config.getApiServerUrl());
             Config k8sConfig = new io.fabric8.kubernetes.client.ConfigBuilder()
                 .withAutoConfigure(false)  // 자동 설정 비활성화 - ~/.kube/config 읽지 않음
-                .withMasterUrl(config.getApiServerUrl())
-                .withOauthToken(config.getToken())
+                .withMasterUrl(dumpSource ? DUMP_MASTER_URL : config.getApiServerUrl())
+                .withOauthToken(dumpSource ? null : config.getToken())
                 .withTrustCerts(true) // 자체 서명 인증서 허용 (프로덕션에서는 false 권장)
                 .withRequestTimeout(30000)  // 30초
                 .withConnectionTimeout(10000) // 10초
                 .build();
 
+            // 429 응답의 Retry-After 헤더를 클러스터별 동시 요청 제한에 반영
             return new KubernetesClientBuilder()
                 .withConfig(k8sConfig)
+                .withHttpClientBuilderConsumer(builder -> builder.addOrReplaceInterceptor("retry-after",
+                    concurrencyLimiter.retryAfterInterceptor(config.getId())))
                 .build();
 
         } catch (Exception e) {
@@ -128,22 +274,107 @@ public class ClusterService {
         }
     }
 
+    /**
+     * 덤프 기반 오프라인 클러스터 여부
+     */
+    public static boolean isDumpSource(String apiServerUrl) {
+        return apiServerUrl != null && apiServerUrl.startsWith(DUMP_URL_PREFIX);
+    }
+
+    /**
+     * file: URL을 덤프 경로로 변환 (file:///abs/path, file:relative/path 모두 허용, 상대 경로는 덤프 루트 기준)
+     * - 정규화한 경로(심볼릭 링크 해석 포함)가 덤프 루트 밖이면 거부
+     */
+    private Path dumpPath(String apiServerUrl) throws IOException {
+        String path = apiServerUrl.substring(DUMP_URL_PREFIX.length());
+        if (path.startsWith("//")) {
+            path = path.substring(2);
+        }
+
+        Path root = Paths.get(dumpRoot).toAbsolutePath().normalize();
+        if (!Files.isDirectory(root)) {
+            throw new IOException("Dump root does not exist: " + root);
+        }
+        root = root.toRealPath();
+
+        Path source;
+        try {
+            source = root.resolve(path).normalize();
+        } catch (InvalidPathException e) {
+            throw new IOException("Invalid dump path: " + path, e);
+        }
+        if (!source.startsWith(root)) {
+            throw new IOException("Dump path must be inside the dump root " + root + ": " + path);
+        }
+        if (Files.exists(source) && !source.toRealPath().startsWith(root)) {
+            throw new IOException("Dump path resolves outside the dump root " + root + ": " + path);
+        }
+        return source;
+    }
+
+    /**
+     * 덤프를 읽어 오프라인 캐시로 적재
+     */
+    private void loadDump(String clusterId, ClusterConfig config, KubernetesClient client) {
+        try {
+            ClusterDumpReader dumpReader = new ClusterDumpReader(dumpMaxFiles, dumpMaxBytes);
+            ClusterDumpReader.Dump dump = dumpReader.read(dumpPath(config.getApiServerUrl()));
+            clusterRepository.saveDumpClient(clusterId, client, dump);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read cluster dump: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 덤프 클러스터 정보 (버전은 첫 노드의 kubelet 버전)
+     */
+    private ClusterInfo collectDumpClusterInfo(String clusterId, ClusterConfig config) {
+        ClusterResourceCache cache = clusterRepository.findCacheById(clusterId)
+            .orElseThrow(() -> new IllegalStateException("Dump is not loaded for cluster: " + clusterId));
+
+        String version = cache.list(Node.class).orElse(List.of()).stream()
+            .filter(node -> node.getStatus() != null && node.getStatus().getNodeInfo() != null)
+            .map(node -> node.getStatus().getNodeInfo().getKubeletVersion())
+            .findFirst()
+            .orElse("dump");
+
+        return ClusterInfo.builder()
+            .id(clusterId)
+            .name(config.getName())
+            .description(config.getDescription())
+            .apiServerUrl(config.getApiServerUrl())
+            .version(version)
+            .status(ClusterStatus.CONNECTED)
+            .lastChecked(LocalDateTime.now())
+            .nodeCount(cache.count(Node.class).orElse(0))
+            .namespaceCount(cache.count(Namespace.class).orElse(0))
+            .podCount(cache.count(Pod.class).orElse(0))
+            .build();
+    }
+
     /**
      * 클러스터 정보 수집 (createdAt은 호출자가 설정해야 함)
      */
     private ClusterInfo collectClusterInfo(String clusterId, ClusterConfig config, KubernetesClient client) {
+        if (isDumpSource(config.getApiServerUrl())) {
+            return collectDumpClusterInfo(clusterId, config);
+        }
+
         try {
             // 버전 정보
             String version = client.getKubernetesVersion().getGitVersion();
 
             // 노드 수
-            int nodeCount = client.nodes().list().getItems().size();
+            int nodeCount = countResources(clusterId, client, Node.class, "api/v1/nodes",
+                options -> client.nodes().list(options));
 
             // 네임스페이스 수
-            int namespaceCount = client.namespaces().list().getItems().size();
+            int namespaceCount = countResources(clusterId, client, Namespace.class, "api/v1/namespaces",
+                options -> client.namespaces().list(options));
 
             // Pod 수 (모든 네임스페이스)
-            int podCount = client.pods().inAnyNamespace().list().getItems().size();
+            int podCount = countResources(clusterId, client, Pod.class, "api/v1/pods",
+                options -> client.pods().inAnyNamespace().list(options));
 
             // API 서버 URL
             String apiServerUrl = client.getConfiguration().getMasterUrl();
@@ -168,24 +399,128 @@ public class ClusterService {
     }
 
     /**
-     * 클러스터 목록 조회
+     * 리소스 개수 조회 (전체 목록을 내려받지 않음)
+     * - Informer 캐시가 있으면 캐시의 개수 사용
+     * - 없으면 limit=1 LIST의 remainingItemCount 사용
+     * - remainingItemCount를 주지 않는 API 서버면 메타데이터만(PartialObjectMetadataList) 페이지 단위로 셈
+     * - API 호출은 모두 ClusterConcurrencyLimiter를 거침
+     */
+    private <T extends HasMetadata> int countResources(String clusterId, KubernetesClient client, Class<T> type,
+            String path, Function<ListOptions, ? extends KubernetesResourceList<T>> lister) {
+        Optional<Integer> cached = clusterRepository.findCacheById(clusterId)
+            .flatMap(cache -> cache.count(type));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        KubernetesResourceList<T> page = concurrencyLimiter.call(clusterId, "count/" + path,
+            () -> lister.apply(new ListOptionsBuilder().withLimit(1L).build()));
+        int count = page.getItems().size();
+        ListMeta meta = page.getMetadata();
+        String continueToken = meta != null ? meta.getContinue() : null;
+
+        if (continueToken == null || continueToken.isEmpty()) {
+            return count;
+        }
+        if (meta.getRemainingItemCount() != null) {
+            return count + meta.getRemainingItemCount().intValue();
+        }
+
+        while (continueToken != null && !continueToken.isEmpty()) {
+            String token = continueToken;
+            PartialObjectMetadataList metadataPage = concurrencyLimiter.call(clusterId, "list-metadata/" + path,
+                () -> listMetadata(client, path, token));
+            count += metadataPage.getItems() != null ? metadataPage.getItems().size() : 0;
+            continueToken = metadataPage.getMetadata() != null ? metadataPage.getMetadata().getContinue() : null;
+        }
+        return count;
+    }
+
+    /**
+     * 메타데이터만 LIST (Accept: ...;as=PartialObjectMetadataList, spec/status를 받지 않음)
+     */
+    private PartialObjectMetadataList listMetadata(KubernetesClient client, String path, String continueToken) {
+        String masterUrl = client.getMasterUrl().toString();
+        String url = (masterUrl.endsWith("/") ? masterUrl : masterUrl + "/") + path
+            + "?limit=" + COUNT_PAGE_SIZE
+            + "&continue=" + URLEncoder.encode(continueToken, StandardCharsets.UTF_8);
+
+        HttpClient httpClient = client.getHttpClient();
+        HttpRequest request = httpClient.newHttpRequestBuilder()
+            .uri(url)
+            .header("Accept", METADATA_LIST_ACCEPT)
+            .build();
+
+        try {
+            HttpResponse<InputStream> response = httpClient.sendAsync(request, InputStream.class)
+                .get(client.getConfiguration().getRequestTimeout(), TimeUnit.MILLISECONDS);
+            try (InputStream body = response.body()) {
+                if (!response.isSuccessful()) {
+                    // 429 등 상태 코드를 그대로 전달 (ClusterConcurrencyLimiter가 처리)
+                    throw new KubernetesClientException("Failed to list " + path + " metadata: HTTP "
+                        + response.code(), response.code(), null);
+                }
+                return metadataMapper.readValue(body, PartialObjectMetadataList.class);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesClientException("Interrupted while listing " + path + " metadata", e);
+        } catch (ExecutionException | TimeoutException | IOException e) {
+            throw new KubernetesClientException("Failed to list " + path + " metadata: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 클러스터 정보 저장 (DB + 스냅샷 갱신)
+     */
+    private void saveInfo(ClusterInfo info) {
+        clusterRepository.saveInfo(info);
+        infoSnapshot.put(info.getId(), info);
+    }
+
+    /**
+     * 클러스터 목록 조회 (인메모리 스냅샷, 등록 순)
      */
     public List<ClusterInfo> listClusters() {
-        return clusterRepository.findAllInfos();
+        return infoSnapshot.values().stream()
+            .sorted(Comparator.comparing(ClusterInfo::getCreatedAt,
+                Comparator.nullsLast(Comparator.naturalOrder())))
+            .collect(Collectors.toList());
     }
 
     /**
-     * 클러스터 조회
+     * 클러스터 조회 (인메모리 스냅샷)
      */
     public Optional<ClusterInfo> getCluster(String clusterId) {
-        return clusterRepository.findInfoById(clusterId);
+        return Optional.ofNullable(infoSnapshot.get(clusterId));
     }
 
     /**
      * Kubernetes 클라이언트 조회
      */
     public Optional<KubernetesClient> getKubernetesClient(String clusterId) {
-        return clusterRepository.findClientById(clusterId);
+        Optional<KubernetesClient> client = clusterRepository.findClientById(clusterId);
+        if (client.isPresent() || !clusterRepository.existsById(clusterId)) {
+            return client;
+        }
+
+        // 아직 초기화되지 않은 클러스터 - 해당 클러스터만 초기화를 기다림 (lazy)
+        try {
+            return Optional.of(bootstrapCluster(clusterId).get(BOOTSTRAP_WAIT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Cluster {} is not ready: {}", clusterId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 클러스터 리소스 캐시 조회 (캐시 모드일 때만 존재)
+     */
+    public Optional<ClusterResourceCache> getResourceCache(String clusterId) {
+        return clusterRepository.findCacheById(clusterId);
     }
 
     /**
@@ -193,27 +528,39 @@ public class ClusterService {
      */
     public void deleteCluster(String clusterId) {
         log.info("Deleting cluster: {}", clusterId);
+        CompletableFuture<KubernetesClient> bootstrap = bootstraps.remove(clusterId);
+        if (bootstrap != null) {
+            bootstrap.cancel(false);
+        }
         clusterRepository.deleteById(clusterId);
+        infoSnapshot.remove(clusterId);
+        concurrencyLimiter.remove(clusterId);
     }
 
     /**
      * 클러스터 연결 테스트
+     * - 클라이언트가 없으면(초기화 실패/미완료) 초기화를 다시 시도하고, 그래도 없으면 ERROR 상태로 저장
      */
     public ClusterInfo testConnection(String clusterId) {
         log.info("Testing cluster connection: {}", clusterId);
 
-        Optional<KubernetesClient> clientOpt = clusterRepository.findClientById(clusterId);
         Optional<ClusterConfig> configOpt = clusterRepository.findConfigById(clusterId);
         Optional<ClusterInfo> infoOpt = clusterRepository.findInfoById(clusterId);
 
-        if (clientOpt.isEmpty() || configOpt.isEmpty() || infoOpt.isEmpty()) {
+        if (configOpt.isEmpty() || infoOpt.isEmpty()) {
             throw new RuntimeException("Cluster not found: " + clusterId);
         }
 
-        KubernetesClient client = clientOpt.get();
         ClusterConfig config = configOpt.get();
         ClusterInfo info = infoOpt.get();
 
+        Optional<KubernetesClient> clientOpt = getKubernetesClient(clusterId);
+        if (clientOpt.isEmpty()) {
+            saveErrorStatus(info);
+            throw new RuntimeException("Cluster is not ready: " + clusterId);
+        }
+        KubernetesClient client = clientOpt.get();
+
         // 기존 createdAt 값 보존
         LocalDateTime originalCreatedAt = info.getCreatedAt();
 
@@ -225,7 +572,7 @@ public class ClusterService {
             updatedInfo.setCreatedAt(originalCreatedAt);
             updatedInfo.setLastChecked(LocalDateTime.now());
 
-            clusterRepository.saveInfo(updatedInfo);
+            saveInfo(updatedInfo);
 
             log.info("Cluster connection test successful: {}", clusterId);
             return updatedInfo;
@@ -233,62 +580,24 @@ public class ClusterService {
         } catch (Exception e) {
             log.error("Cluster connection test failed: {}", clusterId, e);
 
-            // 에러 상태로 업데이트 (createdAt 유지)
-            info.setStatus(ClusterStatus.ERROR);
-            info.setLastChecked(LocalDateTime.now());
-            clusterRepository.saveInfo(info);
-
+            saveErrorStatus(info);
             throw new RuntimeException("Connection test failed: " + e.getMessage(), e);
         }
     }
 
     /**
-     * 클러스터 정보 갱신
+     * 에러 상태로 업데이트 (createdAt 유지)
      */
-    public ClusterInfo refreshClusterInfo(String clusterId) {
-        return testConnection(clusterId);
+    private void saveErrorStatus(ClusterInfo info) {
+        info.setStatus(ClusterStatus.ERROR);
+        info.setLastChecked(LocalDateTime.now());
+        saveInfo(info);
     }
 
     /**
-     * 클러스터 정보 갱신 (필요 시)
-     * 마지막 체크 후 1분 이상 경과했으면 갱신
-     */
-    public void refreshClusterIfNeeded(String clusterId) {
-        Optional<ClusterInfo> infoOpt = clusterRepository.findInfoById(clusterId);
-        if (infoOpt.isEmpty()) {
-            return;
-        }
-
-        ClusterInfo info = infoOpt.get();
-
-        // 마지막 체크가 없거나, 1분 이상 경과했으면 갱신
-        if (info.getLastChecked() == null ||
-            info.getLastChecked().plusMinutes(1).isBefore(LocalDateTime.now())) {
-
-            try {
-                refreshClusterInfo(clusterId);
-                log.debug("Auto-refreshed cluster: {} ({})", info.getName(), clusterId);
-            } catch (Exception e) {
-                log.warn("Failed to auto-refresh cluster: {} ({}). Error: {}",
-                    info.getName(), clusterId, e.getMessage());
-            }
-        }
-    }
-
-    /**
-     * 모든 클러스터 정보 갱신 (필요 시)
+     * 클러스터 정보 갱신
      */
-    public void refreshAllClustersIfNeeded() {
-        List<ClusterInfo> clusters = listClusters();
-
-        if (clusters.isEmpty()) {
-            return;
-        }
-
-        log.debug("Checking {} clusters for refresh...", clusters.size());
-
-        for (ClusterInfo cluster : clusters) {
-            refreshClusterIfNeeded(cluster.getId());
-        }
+    public ClusterInfo refreshClusterInfo(String clusterId) {
+        return testConnection(clusterId);
     }
 }
@@ -1,22 +1,51 @@
 package com.vibecoding.k8sdoctor.service;
 
+import com.vibecoding.k8sdoctor.exception.K8sApiException;
 import com.vibecoding.k8sdoctor.model.DiagnosisResult;
 import com.vibecoding.k8sdoctor.model.FaultInfo;
+import com.vibecoding.k8sdoctor.model.LiveFault;
+import com.vibecoding.k8sdoctor.model.ScanResult;
+import com.vibecoding.k8sdoctor.repository.LiveFaultRegistry;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Namespace;
 import io.fabric8.kubernetes.api.model.Node;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.apps.DaemonSet;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
 import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 /**
  * 진단 서비스 - 리소스 스캔 및 장애 탐지
+ * - 클러스터/네임스페이스 전체 스캔은 리소스 종류별 스캔을 bounded executor에서 동시에 실행
+ *   (전체 소요 시간 ≈ 가장 느린 종류 하나)
+ * - 클러스터 전체 Pod 스캔은 청크 단위로 탐지하고, 임계값 이후의 청크는 병렬 실행
+ *   (결과는 Pod 순서대로 전달)
  */
 @Service
 @RequiredArgsConstructor
@@ -24,368 +53,816 @@ public class DiagnosticsService {
 
     private static final Logger log = LoggerFactory.getLogger(DiagnosticsService.class);
 
+    // 노드 장애 context에 포함할 최대 Pod 이름 수
+    private static final int MAX_AFFECTED_PODS = 20;
+
+    // 종류별 스캔 동시 실행 스레드 수 (전체 스캔의 종류 수 이상)
+    private static final int SCAN_THREADS = 8;
+
     private final MultiClusterK8sService k8sService;
     private final FaultClassificationService faultService;
     private final AIDiagnosisService aiDiagnosisService;
+    private final FaultWatchEngine faultWatchEngine;
+    private final LiveFaultRegistry liveFaultRegistry;
+
+    // 종류별 스캔 실행기 (데몬 스레드, 동시 요청 간 공유)
+    private final ExecutorService scanExecutor = Executors.newFixedThreadPool(SCAN_THREADS, new ScanThreadFactory());
+
+    // Pod 장애 탐지 병렬 실행용 work-stealing 풀 (CPU 코어 수만큼)
+    private final ForkJoinPool detectionPool = new ForkJoinPool(
+        Runtime.getRuntime().availableProcessors(), DiagnosticsService::newDetectionThread, null, false);
+
+    // 종류별 스캔 제한 시간 (초과 시 해당 종류만 결과에서 제외)
+    @Value("${diagnostics.scan.kind-timeout-seconds:60}")
+    private long kindTimeoutSeconds;
+
+    // 이 수만큼 Pod을 받은 뒤의 청크부터 탐지를 병렬 실행 (0 이하이면 항상 순차)
+    @Value("${diagnostics.scan.parallel-threshold:2000}")
+    private int parallelThreshold;
+
+    // 병렬 탐지 작업 하나가 처리하는 Pod 수
+    @Value("${diagnostics.scan.parallel-chunk-size:256}")
+    private int parallelChunkSize;
+
+    @PreDestroy
+    public void shutdown() {
+        scanExecutor.shutdownNow();
+        detectionPool.shutdownNow();
+    }
+
+    private static ForkJoinWorkerThread newDetectionThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("fault-detect-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    /**
+     * 종류별 스캔 작업 (찾은 장애를 인자로 받은 sink에 전달, 이름은 로그/결과용)
+     */
+    private record KindScan(String kind, Consumer<Consumer<FaultInfo>> scan) {
+    }
+
+    /**
+     * 실행 중인 종류별 스캔 (제한 시간은 실행을 시작한 시점부터)
+     */
+    private static final class KindTask {
+
+        private final String kind;
+        private final long submittedAt = System.nanoTime();
+        private volatile boolean started;
+        private volatile long startedAt;
+        // 결과를 더 받지 않음 (시간 초과, 스캔 종료) - sinkLock 안에서만 접근
+        private boolean closed;
+        private Future<?> future;
+
+        private KindTask(String kind) {
+            this.kind = kind;
+        }
+    }
 
     /**
      * 특정 네임스페이스의 모든 Pod 스캔
      */
     public List<FaultInfo> scanPodsInNamespace(String clusterId, String namespace) {
+        List<FaultInfo> allFaults = new ArrayList<>();
+        scanPodsInNamespace(clusterId, namespace, allFaults::add);
+        return allFaults;
+    }
+
+    /**
+     * 특정 네임스페이스의 모든 Pod 스캔 (찾는 즉시 faultSink로 전달, 탐지는 PodScan과 같은 청크 단위)
+     */
+    public void scanPodsInNamespace(String clusterId, String namespace, Consumer<FaultInfo> faultSink) {
         log.info("Scanning pods in namespace {} of cluster {}", namespace, clusterId);
 
-        List<FaultInfo> allFaults = new ArrayList<>();
-        List<Pod> pods = k8sService.listPodsInNamespace(clusterId, namespace);
-
-        for (Pod pod : pods) {
-            List<FaultInfo> faults = faultService.detectFaults(clusterId, namespace, "Pod", pod);
-            // ClusterId를 context에 추가
-            faults.forEach(f -> {
-                Map<String, Object> context = f.getContext();
-                if (context == null || context.isEmpty()) {
-                    context = new java.util.HashMap<>();
-                } else {
-                    // 기존 context가 불변 맵일 수 있으므로 새로운 HashMap으로 복사
-                    context = new java.util.HashMap<>(context);
-                }
-                context.put("clusterId", clusterId);
-                f.setContext(context);
-            });
-            allFaults.addAll(faults);
+        PodScan scan = new PodScan(clusterId, faultSink);
+        try {
+            k8sService.listPodsInNamespace(clusterId, namespace).forEach(scan::accept);
+            scan.finish();
+        } finally {
+            scan.cancelPending();
         }
 
-        log.info("Found {} faults in {} pods", allFaults.size(), pods.size());
-        return allFaults;
+        log.info("Found {} faults in {} pods", scan.faultCount, scan.podCount);
     }
 
     /**
      * 클러스터의 모든 Pod 스캔
      */
     public List<FaultInfo> scanAllPods(String clusterId) {
+        List<FaultInfo> allFaults = new ArrayList<>();
+        scanAllPods(clusterId, allFaults::add);
+        return allFaults;
+    }
+
+    /**
+     * 클러스터의 모든 Pod 스캔 (항목 단위 스트리밍)
+     * - LIST 응답에서 디코딩된 Pod을 청크 크기만큼 모이는 즉시 탐지해 faultSink로 전달
+     * - 임계값 이후의 청크는 병렬 탐지 (PodScan)
+     */
+    public void scanAllPods(String clusterId, Consumer<FaultInfo> faultSink) {
         log.info("Scanning all pods in cluster {}", clusterId);
 
-        List<FaultInfo> allFaults = new ArrayList<>();
-        List<Pod> pods = k8sService.listAllPods(clusterId);
-
-        for (Pod pod : pods) {
-            String namespace = pod.getMetadata().getNamespace();
-            List<FaultInfo> faults = faultService.detectFaults(clusterId, namespace, "Pod", pod);
-            // ClusterId를 context에 추가
-            faults.forEach(f -> {
-                Map<String, Object> context = f.getContext();
-                if (context == null || context.isEmpty()) {
-                    context = new java.util.HashMap<>();
-                } else {
-                    // 기존 context가 불변 맵일 수 있으므로 새로운 HashMap으로 복사
-                    context = new java.util.HashMap<>(context);
-                }
-                context.put("clusterId", clusterId);
-                f.setContext(context);
-            });
-            allFaults.addAll(faults);
+        PodScan scan = new PodScan(clusterId, faultSink);
+        try {
+            k8sService.forEachPod(clusterId, scan::accept);
+            scan.finish();
+        } finally {
+            scan.cancelPending();
         }
 
-        log.info("Found {} faults in {} pods", allFaults.size(), pods.size());
-        return allFaults;
+        log.info("Found {} faults in {} pods{}", scan.faultCount, scan.podCount,
+            scan.parallel ? " (parallel detection)" : "");
+    }
+
+    /**
+     * 클러스터 전체 Pod 스캔 상태 (스캔을 호출한 스레드에서만 사용)
+     * - Pod은 chunkSize만큼 모이는 즉시 청크 하나로 처리 (버퍼에는 최대 청크 하나)
+     * - 청크마다 순차/병렬 결정: 지금까지 받은 Pod이 임계값 미만이면 호출 스레드에서 탐지,
+     *   이상이면 detectionPool에 제출 (작은 클러스터는 병렬 작업 없이 끝남)
+     * - 병렬 청크는 앞쪽 청크부터 완료된 순서대로 결과를 전달
+     *   (faultSink 호출 순서 = Pod 순서, faultSink는 항상 호출 스레드에서 실행)
+     * - 진행 중인 청크 수를 제한해 LIST 디코딩이 탐지보다 빨라도 메모리가 무한히 늘지 않음
+     */
+    private final class PodScan {
+
+        private final String clusterId;
+        private final Consumer<FaultInfo> faultSink;
+        private final int chunkSize = Math.max(1, parallelChunkSize);
+        private final int maxInFlight = detectionPool.getParallelism() * 2;
+        private final Deque<ForkJoinTask<List<FaultInfo>>> inFlight = new ArrayDeque<>();
+
+        private List<Pod> buffer = new ArrayList<>();
+        private boolean parallel;
+        private int podCount;
+        private int faultCount;
+
+        PodScan(String clusterId, Consumer<FaultInfo> faultSink) {
+            this.clusterId = clusterId;
+            this.faultSink = faultSink;
+        }
+
+        void accept(Pod pod) {
+            podCount++;
+            buffer.add(pod);
+            if (buffer.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void finish() {
+            if (!buffer.isEmpty()) {
+                flush();
+            }
+            while (!inFlight.isEmpty()) {
+                emit(inFlight.removeFirst().join());
+            }
+        }
+
+        private void flush() {
+            List<Pod> chunk = buffer;
+            buffer = new ArrayList<>(chunkSize);
+            if (!parallel && parallelThreshold > 0 && podCount >= parallelThreshold) {
+                parallel = true;
+            }
+            if (parallel) {
+                submit(chunk);
+            } else {
+                emit(detect(chunk));
+            }
+        }
+
+        void cancelPending() {
+            inFlight.forEach(task -> task.cancel(true));
+            inFlight.clear();
+        }
+
+        private void submit(List<Pod> chunk) {
+            inFlight.addLast(detectionPool.submit(() -> detect(chunk)));
+            while (!inFlight.isEmpty() && (inFlight.peekFirst().isDone() || inFlight.size() > maxInFlight)) {
+                emit(inFlight.removeFirst().join());
+            }
+        }
+
+        private List<FaultInfo> detect(List<Pod> pods) {
+            List<FaultInfo> faults = new ArrayList<>();
+            for (Pod pod : pods) {
+                String namespace = pod.getMetadata().getNamespace();
+                faults.addAll(faultService.detectFaults(clusterId, namespace, "Pod", pod));
+            }
+            addClusterIdContext(faults, clusterId);
+            return faults;
+        }
+
+        private void emit(List<FaultInfo> faults) {
+            faultCount += faults.size();
+            faults.forEach(faultSink);
+        }
     }
 
     /**
      * Deployment 스캔
      */
     public List<FaultInfo> scanDeploymentsInNamespace(String clusterId, String namespace) {
+        List<FaultInfo> allFaults = new ArrayList<>();
+        scanDeploymentsInNamespace(clusterId, namespace, allFaults::add);
+        return allFaults;
+    }
+
+    /**
+     * Deployment 스캔 (찾는 즉시 faultSink로 전달)
+     */
+    public void scanDeploymentsInNamespace(String clusterId, String namespace, Consumer<FaultInfo> faultSink) {
         log.info("Scanning deployments in namespace {} of cluster {}", namespace, clusterId);
 
-        List<FaultInfo> allFaults = new ArrayList<>();
         List<Deployment> deployments = k8sService.listDeploymentsInNamespace(clusterId, namespace);
+        int faultCount = detectEach(clusterId, "Deployment", deployments, faultSink);
 
-        for (Deployment deployment : deployments) {
-            List<FaultInfo> faults = faultService.detectFaults(clusterId, namespace, "Deployment", deployment);
-            allFaults.addAll(faults);
-        }
-
-        log.info("Found {} faults in {} deployments", allFaults.size(), deployments.size());
-        return allFaults;
+        log.info("Found {} faults in {} deployments", faultCount, deployments.size());
     }
 
     /**
      * 전체 Deployment 스캔
      */
     public List<FaultInfo> scanAllDeployments(String clusterId) {
-        log.info("Scanning all deployments in cluster {}", clusterId);
-
         List<FaultInfo> allFaults = new ArrayList<>();
-        List<io.fabric8.kubernetes.api.model.Namespace> namespaces = k8sService.listNamespaces(clusterId);
+        scanAllDeployments(clusterId, allFaults::add);
+        return allFaults;
+    }
 
-        for (io.fabric8.kubernetes.api.model.Namespace ns : namespaces) {
-            allFaults.addAll(scanDeploymentsInNamespace(clusterId, ns.getMetadata().getName()));
-        }
+    /**
+     * 전체 Deployment 스캔 (네임스페이스별로 찾는 즉시 faultSink로 전달)
+     */
+    public void scanAllDeployments(String clusterId, Consumer<FaultInfo> faultSink) {
+        log.info("Scanning all deployments in cluster {}", clusterId);
 
-        log.info("Found {} total deployment faults", allFaults.size());
-        return allFaults;
+        int faultCount = scanEachNamespace(clusterId, faultSink,
+            (namespace, sink) -> scanDeploymentsInNamespace(clusterId, namespace, sink));
+
+        log.info("Found {} total deployment faults", faultCount);
     }
 
     /**
      * DaemonSet 스캔 (네임스페이스별)
      */
     public List<FaultInfo> scanDaemonSetsInNamespace(String clusterId, String namespace) {
-        log.info("Scanning daemonsets in namespace {} of cluster {}", namespace, clusterId);
-
         List<FaultInfo> allFaults = new ArrayList<>();
-        List<io.fabric8.kubernetes.api.model.apps.DaemonSet> daemonSets =
-            k8sService.listDaemonSetsInNamespace(clusterId, namespace);
+        scanDaemonSetsInNamespace(clusterId, namespace, allFaults::add);
+        return allFaults;
+    }
 
-        for (io.fabric8.kubernetes.api.model.apps.DaemonSet daemonSet : daemonSets) {
-            List<FaultInfo> faults = faultService.detectFaults(clusterId, namespace, "DaemonSet", daemonSet);
-            allFaults.addAll(faults);
-        }
+    /**
+     * DaemonSet 스캔 (네임스페이스별, 찾는 즉시 faultSink로 전달)
+     */
+    public void scanDaemonSetsInNamespace(String clusterId, String namespace, Consumer<FaultInfo> faultSink) {
+        log.info("Scanning daemonsets in namespace {} of cluster {}", namespace, clusterId);
 
-        log.info("Found {} faults in {} daemonsets", allFaults.size(), daemonSets.size());
-        return allFaults;
+        List<DaemonSet> daemonSets = k8sService.listDaemonSetsInNamespace(clusterId, namespace);
+        int faultCount = detectEach(clusterId, "DaemonSet", daemonSets, faultSink);
+
+        log.info("Found {} faults in {} daemonsets", faultCount, daemonSets.size());
     }
 
     /**
      * 전체 DaemonSet 스캔
      */
     public List<FaultInfo> scanAllDaemonSets(String clusterId) {
-        log.info("Scanning all daemonsets in cluster {}", clusterId);
-
         List<FaultInfo> allFaults = new ArrayList<>();
-        List<io.fabric8.kubernetes.api.model.Namespace> namespaces = k8sService.listNamespaces(clusterId);
+        scanAllDaemonSets(clusterId, allFaults::add);
+        return allFaults;
+    }
 
-        for (io.fabric8.kubernetes.api.model.Namespace ns : namespaces) {
-            allFaults.addAll(scanDaemonSetsInNamespace(clusterId, ns.getMetadata().getName()));
-        }
+    /**
+     * 전체 DaemonSet 스캔 (네임스페이스별로 찾는 즉시 faultSink로 전달)
+     */
+    public void scanAllDaemonSets(String clusterId, Consumer<FaultInfo> faultSink) {
+        log.info("Scanning all daemonsets in cluster {}", clusterId);
 
-        log.info("Found {} total daemonset faults", allFaults.size());
-        return allFaults;
+        int faultCount = scanEachNamespace(clusterId, faultSink,
+            (namespace, sink) -> scanDaemonSetsInNamespace(clusterId, namespace, sink));
+
+        log.info("Found {} total daemonset faults", faultCount);
     }
 
     /**
      * StatefulSet 스캔 (네임스페이스별)
      */
     public List<FaultInfo> scanStatefulSetsInNamespace(String clusterId, String namespace) {
-        log.info("Scanning statefulsets in namespace {} of cluster {}", namespace, clusterId);
-
         List<FaultInfo> allFaults = new ArrayList<>();
-        List<io.fabric8.kubernetes.api.model.apps.StatefulSet> statefulSets =
-            k8sService.listStatefulSetsInNamespace(clusterId, namespace);
+        scanStatefulSetsInNamespace(clusterId, namespace, allFaults::add);
+        return allFaults;
+    }
 
-        for (io.fabric8.kubernetes.api.model.apps.StatefulSet statefulSet : statefulSets) {
-            List<FaultInfo> faults = faultService.detectFaults(clusterId, namespace, "StatefulSet", statefulSet);
-            allFaults.addAll(faults);
-        }
+    /**
+     * StatefulSet 스캔 (네임스페이스별, 찾는 즉시 faultSink로 전달)
+     */
+    public void scanStatefulSetsInNamespace(String clusterId, String namespace, Consumer<FaultInfo> faultSink) {
+        log.info("Scanning statefulsets in namespace {} of cluster {}", namespace, clusterId);
 
-        log.info("Found {} faults in {} statefulsets", allFaults.size(), statefulSets.size());
-        return allFaults;
+        List<StatefulSet> statefulSets = k8sService.listStatefulSetsInNamespace(clusterId, namespace);
+        int faultCount = detectEach(clusterId, "StatefulSet", statefulSets, faultSink);
+
+        log.info("Found {} faults in {} statefulsets", faultCount, statefulSets.size());
     }
 
     /**
      * 전체 StatefulSet 스캔
      */
     public List<FaultInfo> scanAllStatefulSets(String clusterId) {
-        log.info("Scanning all statefulsets in cluster {}", clusterId);
-
         List<FaultInfo> allFaults = new ArrayList<>();
-        List<io.fabric8.kubernetes.api.model.Namespace> namespaces = k8sService.listNamespaces(clusterId);
+        scanAllStatefulSets(clusterId, allFaults::add);
+        return allFaults;
+    }
 
-        for (io.fabric8.kubernetes.api.model.Namespace ns : namespaces) {
-            allFaults.addAll(scanStatefulSetsInNamespace(clusterId, ns.getMetadata().getName()));
-        }
+    /**
+     * 전체 StatefulSet 스캔 (네임스페이스별로 찾는 즉시 faultSink로 전달)
+     */
+    public void scanAllStatefulSets(String clusterId, Consumer<FaultInfo> faultSink) {
+        log.info("Scanning all statefulsets in cluster {}", clusterId);
 
-        log.info("Found {} total statefulset faults", allFaults.size());
-        return allFaults;
+        int faultCount = scanEachNamespace(clusterId, faultSink,
+            (namespace, sink) -> scanStatefulSetsInNamespace(clusterId, namespace, sink));
+
+        log.info("Found {} total statefulset faults", faultCount);
     }
 
     /**
      * ReplicaSet 스캔 (네임스페이스별)
      */
     public List<FaultInfo> scanReplicaSetsInNamespace(String clusterId, String namespace) {
-        log.info("Scanning replicasets in namespace {} of cluster {}", namespace, clusterId);
-
         List<FaultInfo> allFaults = new ArrayList<>();
-        List<io.fabric8.kubernetes.api.model.apps.ReplicaSet> replicaSets =
-            k8sService.listReplicaSetsInNamespace(clusterId, namespace);
+        scanReplicaSetsInNamespace(clusterId, namespace, allFaults::add);
+        return allFaults;
+    }
 
-        for (io.fabric8.kubernetes.api.model.apps.ReplicaSet replicaSet : replicaSets) {
-            List<FaultInfo> faults = faultService.detectFaults(clusterId, namespace, "ReplicaSet", replicaSet);
-            allFaults.addAll(faults);
-        }
+    /**
+     * ReplicaSet 스캔 (네임스페이스별, 찾는 즉시 faultSink로 전달)
+     */
+    public void scanReplicaSetsInNamespace(String clusterId, String namespace, Consumer<FaultInfo> faultSink) {
+        log.info("Scanning replicasets in namespace {} of cluster {}", namespace, clusterId);
 
-        log.info("Found {} faults in {} replicasets", allFaults.size(), replicaSets.size());
-        return allFaults;
+        List<ReplicaSet> replicaSets = k8sService.listReplicaSetsInNamespace(clusterId, namespace);
+        int faultCount = detectEach(clusterId, "ReplicaSet", replicaSets, faultSink);
+
+        log.info("Found {} faults in {} replicasets", faultCount, replicaSets.size());
     }
 
     /**
      * 전체 ReplicaSet 스캔
      */
     public List<FaultInfo> scanAllReplicaSets(String clusterId) {
-        log.info("Scanning all replicasets in cluster {}", clusterId);
-
         List<FaultInfo> allFaults = new ArrayList<>();
-        List<io.fabric8.kubernetes.api.model.Namespace> namespaces = k8sService.listNamespaces(clusterId);
+        scanAllReplicaSets(clusterId, allFaults::add);
+        return allFaults;
+    }
 
-        for (io.fabric8.kubernetes.api.model.Namespace ns : namespaces) {
-            allFaults.addAll(scanReplicaSetsInNamespace(clusterId, ns.getMetadata().getName()));
-        }
+    /**
+     * 전체 ReplicaSet 스캔 (네임스페이스별로 찾는 즉시 faultSink로 전달)
+     */
+    public void scanAllReplicaSets(String clusterId, Consumer<FaultInfo> faultSink) {
+        log.info("Scanning all replicasets in cluster {}", clusterId);
 
-        log.info("Found {} total replicaset faults", allFaults.size());
-        return allFaults;
+        int faultCount = scanEachNamespace(clusterId, faultSink,
+            (namespace, sink) -> scanReplicaSetsInNamespace(clusterId, namespace, sink));
+
+        log.info("Found {} total replicaset faults", faultCount);
     }
 
     /**
      * Job 스캔 (네임스페이스별)
      */
     public List<FaultInfo> scanJobsInNamespace(String clusterId, String namespace) {
+        List<FaultInfo> allFaults = new ArrayList<>();
+        scanJobsInNamespace(clusterId, namespace, allFaults::add);
+        return allFaults;
+    }
+
+    /**
+     * Job 스캔 (네임스페이스별, 찾는 즉시 faultSink로 전달)
+     */
+    public void scanJobsInNamespace(String clusterId, String namespace, Consumer<FaultInfo> faultSink) {
         log.info("Scanning jobs in namespace {} of cluster {}", namespace, clusterId);
 
-        List<FaultInfo> allFaults = new ArrayList<>();
         List<Job> jobs = k8sService.listJobsInNamespace(clusterId, namespace);
+        int faultCount = detectEach(clusterId, "Job", jobs, faultSink);
 
-        for (Job job : jobs) {
-            List<FaultInfo> faults = faultService.detectFaults(clusterId, namespace, "Job", job);
-            faults.forEach(f -> {
-                Map<String, Object> context = f.getContext();
-                if (context == null || context.isEmpty()) {
-                    context = new java.util.HashMap<>();
-                } else {
-                    context = new java.util.HashMap<>(context);
-                }
-                context.put("clusterId", clusterId);
-                f.setContext(context);
-            });
-            allFaults.addAll(faults);
-        }
-
-        log.info("Found {} faults in {} jobs", allFaults.size(), jobs.size());
-        return allFaults;
+        log.info("Found {} faults in {} jobs", faultCount, jobs.size());
     }
 
     /**
      * 전체 Job 스캔
      */
     public List<FaultInfo> scanAllJobs(String clusterId) {
+        List<FaultInfo> allFaults = new ArrayList<>();
+        scanAllJobs(clusterId, allFaults::add);
+        return allFaults;
+    }
+
+    /**
+     * 전체 Job 스캔 (페이지 단위 스트리밍)
+     */
+    public void scanAllJobs(String clusterId, Consumer<FaultInfo> faultSink) {
         log.info("Scanning all jobs in cluster {}", clusterId);
 
-        List<FaultInfo> allFaults = new ArrayList<>();
-        List<Job> jobs = k8sService.listAllJobs(clusterId);
-
-        for (Job job : jobs) {
-            String namespace = job.getMetadata().getNamespace();
-            List<FaultInfo> faults = faultService.detectFaults(clusterId, namespace, "Job", job);
-            faults.forEach(f -> {
-                Map<String, Object> context = f.getContext();
-                if (context == null || context.isEmpty()) {
-                    context = new java.util.HashMap<>();
-                } else {
-                    context = new java.util.HashMap<>(context);
-                }
-                context.put("clusterId", clusterId);
-                f.setContext(context);
-            });
-            allFaults.addAll(faults);
-        }
+        int[] counts = new int[2]; // [jobs, faults]
+        k8sService.forEachJobPage(clusterId, jobs -> {
+            counts[1] += detectEach(clusterId, "Job", jobs, faultSink);
+            counts[0] += jobs.size();
+        });
 
-        log.info("Found {} faults in {} jobs", allFaults.size(), jobs.size());
-        return allFaults;
+        log.info("Found {} faults in {} jobs", counts[1], counts[0]);
     }
 
     /**
      * CronJob 스캔 (네임스페이스별)
      */
     public List<FaultInfo> scanCronJobsInNamespace(String clusterId, String namespace) {
+        List<FaultInfo> allFaults = new ArrayList<>();
+        scanCronJobsInNamespace(clusterId, namespace, allFaults::add);
+        return allFaults;
+    }
+
+    /**
+     * CronJob 스캔 (네임스페이스별, 찾는 즉시 faultSink로 전달)
+     */
+    public void scanCronJobsInNamespace(String clusterId, String namespace, Consumer<FaultInfo> faultSink) {
         log.info("Scanning cronjobs in namespace {} of cluster {}", namespace, clusterId);
 
-        List<FaultInfo> allFaults = new ArrayList<>();
         List<CronJob> cronJobs = k8sService.listCronJobsInNamespace(clusterId, namespace);
+        int faultCount = detectEach(clusterId, "CronJob", cronJobs, faultSink);
 
-        for (CronJob cronJob : cronJobs) {
-            List<FaultInfo> faults = faultService.detectFaults(clusterId, namespace, "CronJob", cronJob);
-            faults.forEach(f -> {
-                Map<String, Object> context = f.getContext();
-                if (context == null || context.isEmpty()) {
-                    context = new java.util.HashMap<>();
-                } else {
-                    context = new java.util.HashMap<>(context);
-                }
-                context.put("clusterId", clusterId);
-                f.setContext(context);
-            });
-            allFaults.addAll(faults);
-        }
-
-        log.info("Found {} faults in {} cronjobs", allFaults.size(), cronJobs.size());
-        return allFaults;
+        log.info("Found {} faults in {} cronjobs", faultCount, cronJobs.size());
     }
 
     /**
      * 전체 CronJob 스캔
      */
     public List<FaultInfo> scanAllCronJobs(String clusterId) {
-        log.info("Scanning all cronjobs in cluster {}", clusterId);
-
         List<FaultInfo> allFaults = new ArrayList<>();
-        List<io.fabric8.kubernetes.api.model.Namespace> namespaces = k8sService.listNamespaces(clusterId);
+        scanAllCronJobs(clusterId, allFaults::add);
+        return allFaults;
+    }
 
-        for (io.fabric8.kubernetes.api.model.Namespace ns : namespaces) {
-            allFaults.addAll(scanCronJobsInNamespace(clusterId, ns.getMetadata().getName()));
-        }
+    /**
+     * 전체 CronJob 스캔 (네임스페이스별로 찾는 즉시 faultSink로 전달)
+     */
+    public void scanAllCronJobs(String clusterId, Consumer<FaultInfo> faultSink) {
+        log.info("Scanning all cronjobs in cluster {}", clusterId);
 
-        log.info("Found {} total cronjob faults", allFaults.size());
-        return allFaults;
+        int faultCount = scanEachNamespace(clusterId, faultSink,
+            (namespace, sink) -> scanCronJobsInNamespace(clusterId, namespace, sink));
+
+        log.info("Found {} total cronjob faults", faultCount);
     }
 
     /**
      * 노드 스캔
      */
     public List<FaultInfo> scanNodes(String clusterId) {
+        List<FaultInfo> allFaults = new ArrayList<>();
+        scanNodes(clusterId, allFaults::add);
+        return allFaults;
+    }
+
+    /**
+     * 노드 스캔 (노드마다 영향받는 Pod 정보를 붙여 바로 faultSink로 전달)
+     */
+    public void scanNodes(String clusterId, Consumer<FaultInfo> faultSink) {
         log.info("Scanning nodes in cluster {}", clusterId);
 
-        List<FaultInfo> allFaults = new ArrayList<>();
         List<Node> nodes = k8sService.listNodes(clusterId);
-
+        int faultCount = 0;
         for (Node node : nodes) {
             List<FaultInfo> faults = faultService.detectFaults(clusterId, null, "Node", node);
-            allFaults.addAll(faults);
+            if (!faults.isEmpty()) {
+                addAffectedPods(clusterId, node.getMetadata().getName(), faults);
+            }
+            addClusterIdContext(faults, clusterId);
+            faults.forEach(faultSink);
+            faultCount += faults.size();
         }
 
-        log.info("Found {} faults in {} nodes", allFaults.size(), nodes.size());
-        return allFaults;
+        log.info("Found {} faults in {} nodes", faultCount, nodes.size());
+    }
+
+    /**
+     * 리소스마다 장애를 탐지해 바로 faultSink로 전달 (목록 전체의 결과를 모으지 않음)
+     * @return 찾은 장애 수
+     */
+    private <T extends HasMetadata> int detectEach(String clusterId, String kind, List<T> resources,
+                                                   Consumer<FaultInfo> faultSink) {
+        int faultCount = 0;
+        for (T resource : resources) {
+            List<FaultInfo> faults = faultService.detectFaults(clusterId, resource.getMetadata().getNamespace(),
+                kind, resource);
+            addClusterIdContext(faults, clusterId);
+            faults.forEach(faultSink);
+            faultCount += faults.size();
+        }
+        return faultCount;
+    }
+
+    /**
+     * 네임스페이스마다 namespaceScan 실행 (장애는 찾는 즉시 faultSink로 전달)
+     * @return 찾은 장애 수
+     */
+    private int scanEachNamespace(String clusterId, Consumer<FaultInfo> faultSink,
+                                  BiConsumer<String, Consumer<FaultInfo>> namespaceScan) {
+        int[] faultCount = new int[1];
+        Consumer<FaultInfo> counting = fault -> {
+            faultCount[0]++;
+            faultSink.accept(fault);
+        };
+        for (Namespace ns : k8sService.listNamespaces(clusterId)) {
+            namespaceScan.accept(ns.getMetadata().getName(), counting);
+        }
+        return faultCount[0];
+    }
+
+    /**
+     * 노드 장애에 해당 노드의 Pod 정보 추가 (노드 인덱스/필드 셀렉터 조회)
+     */
+    private void addAffectedPods(String clusterId, String nodeName, List<FaultInfo> faults) {
+        List<Pod> pods;
+        try {
+            pods = k8sService.listPodsOnNode(clusterId, nodeName);
+        } catch (Exception e) {
+            log.warn("Failed to list pods on node {}: {}", nodeName, e.getMessage());
+            return;
+        }
+        addAffectedPods(faults, pods);
+    }
+
+    /**
+     * 노드 장애에 노드의 Pod 수/이름과 증상 추가 (FaultWatchEngine도 같은 형식으로 사용)
+     */
+    static void addAffectedPods(List<FaultInfo> faults, List<Pod> pods) {
+        List<String> podNames = pods.stream()
+                .map(p -> p.getMetadata().getNamespace() + "/" + p.getMetadata().getName())
+                .sorted()
+                .limit(MAX_AFFECTED_PODS)
+                .collect(Collectors.toList());
+
+        for (FaultInfo fault : faults) {
+            Map<String, Object> context = fault.getContext() != null
+                    ? new HashMap<>(fault.getContext())
+                    : new HashMap<>();
+            context.put("affectedPodCount", pods.size());
+            context.put("affectedPods", podNames);
+            fault.setContext(context);
+
+            List<String> symptoms = fault.getSymptoms() != null
+                    ? new ArrayList<>(fault.getSymptoms())
+                    : new ArrayList<>();
+            symptoms.add(String.format("이 노드에서 실행 중인 Pod: %d개", pods.size()));
+            fault.setSymptoms(symptoms);
+        }
     }
 
     /**
      * 클러스터 전체 스캔 (모든 워크로드 + Node)
      */
     public List<FaultInfo> scanCluster(String clusterId) {
+        return scanClusterResult(clusterId).faults();
+    }
+
+    /**
+     * 클러스터 전체 스캔 (결과에서 빠진 종류 포함)
+     */
+    public ScanResult scanClusterResult(String clusterId) {
         log.info("Starting full cluster scan for cluster {}", clusterId);
 
-        List<FaultInfo> allFaults = new ArrayList<>();
+        ScanResult result = collectKindScans("cluster " + clusterId, clusterKindScans(clusterId))
+            .withStaleKinds(k8sService.staleCacheKinds(clusterId));
 
-        // Pod 스캔
-        allFaults.addAll(scanAllPods(clusterId));
+        log.info("Full cluster scan completed. Found {} total faults{}", result.faults().size(),
+            result.isComplete() ? "" : " (incomplete: " + result.incompleteKinds().keySet() + ")");
+        return result;
+    }
 
-        // 워크로드 스캔
-        allFaults.addAll(scanAllDeployments(clusterId));
-        allFaults.addAll(scanAllDaemonSets(clusterId));
-        allFaults.addAll(scanAllStatefulSets(clusterId));
-        allFaults.addAll(scanAllReplicaSets(clusterId));
+    private List<KindScan> clusterKindScans(String clusterId) {
+        return List.of(
+            new KindScan("pods", sink -> scanAllPods(clusterId, sink)),
+            new KindScan("deployments", sink -> scanAllDeployments(clusterId, sink)),
+            new KindScan("daemonsets", sink -> scanAllDaemonSets(clusterId, sink)),
+            new KindScan("statefulsets", sink -> scanAllStatefulSets(clusterId, sink)),
+            new KindScan("replicasets", sink -> scanAllReplicaSets(clusterId, sink)),
+            new KindScan("jobs", sink -> scanAllJobs(clusterId, sink)),
+            new KindScan("cronjobs", sink -> scanAllCronJobs(clusterId, sink)),
+            new KindScan("nodes", sink -> scanNodes(clusterId, sink))
+        );
+    }
 
-        // Job/CronJob 스캔 (실패해도 다른 스캔 결과는 유지)
-        try {
-            allFaults.addAll(scanAllJobs(clusterId));
-        } catch (Exception e) {
-            log.warn("Failed to scan jobs: {}", e.getMessage());
+    private List<KindScan> namespaceKindScans(String clusterId, String namespace) {
+        return List.of(
+            new KindScan("pods", sink -> scanPodsInNamespace(clusterId, namespace, sink)),
+            new KindScan("deployments", sink -> scanDeploymentsInNamespace(clusterId, namespace, sink)),
+            new KindScan("daemonsets", sink -> scanDaemonSetsInNamespace(clusterId, namespace, sink)),
+            new KindScan("statefulsets", sink -> scanStatefulSetsInNamespace(clusterId, namespace, sink)),
+            new KindScan("replicasets", sink -> scanReplicaSetsInNamespace(clusterId, namespace, sink)),
+            new KindScan("jobs", sink -> scanJobsInNamespace(clusterId, namespace, sink)),
+            new KindScan("cronjobs", sink -> scanCronJobsInNamespace(clusterId, namespace, sink))
+        );
+    }
+
+    /**
+     * 클러스터의 현재 장애
+     * - 장애 감시 엔진이 동작 중인 클러스터는 레지스트리의 열린 장애를 그대로 반환 (스캔 없음)
+     * - 그 외(엔진 비활성, 캐시 없는 클러스터, 첫 평가 전)는 전체 스캔
+     */
+    public ScanResult currentFaults(String clusterId) {
+        if (faultWatchEngine.isLive(clusterId)) {
+            return ScanResult.complete(liveFaultRegistry.openFaults(clusterId).stream().map(LiveFault::fault).toList());
+        }
+        return scanClusterResult(clusterId);
+    }
+
+    /**
+     * 네임스페이스의 현재 장애 (currentFaults(clusterId)와 같은 기준)
+     */
+    public ScanResult currentFaults(String clusterId, String namespace) {
+        if (faultWatchEngine.isLive(clusterId)) {
+            return ScanResult.complete(
+                liveFaultRegistry.openFaults(clusterId, namespace).stream().map(LiveFault::fault).toList());
+        }
+        return scanNamespaceResult(clusterId, namespace);
+    }
+
+    /**
+     * 클러스터의 현재 장애 (스트리밍)
+     * - 장애 감시 엔진이 동작 중이면 레지스트리의 열린 장애, 아니면 전체 스트리밍 스캔
+     * - faultSink는 한 번에 한 스레드에서만 호출됨 (순서는 종류 간에 섞일 수 있음)
+     * @return 결과에서 빠진 종류 -> 사유
+     */
+    public Map<String, String> streamCurrentFaults(String clusterId, Consumer<FaultInfo> faultSink) {
+        if (faultWatchEngine.isLive(clusterId)) {
+            liveFaultRegistry.openFaults(clusterId).forEach(live -> faultSink.accept(live.fault()));
+            return Map.of();
+        }
+        log.info("Starting streaming cluster scan for cluster {}", clusterId);
+        return runKindScans("cluster " + clusterId, clusterKindScans(clusterId), kind -> faultSink);
+    }
+
+    /**
+     * 네임스페이스의 현재 장애 (스트리밍, streamCurrentFaults(clusterId, faultSink)와 같은 기준)
+     */
+    public Map<String, String> streamCurrentFaults(String clusterId, String namespace, Consumer<FaultInfo> faultSink) {
+        if (faultWatchEngine.isLive(clusterId)) {
+            liveFaultRegistry.openFaults(clusterId, namespace).forEach(live -> faultSink.accept(live.fault()));
+            return Map.of();
+        }
+        log.info("Starting streaming namespace scan for {} in cluster {}", namespace, clusterId);
+        return runKindScans("namespace " + namespace + " of cluster " + clusterId,
+            namespaceKindScans(clusterId, namespace), kind -> faultSink);
+    }
+
+    /**
+     * 종류별 스캔을 동시에 실행하고 완료된 종류의 결과를 정해진 순서로 합침
+     * - 실패/시간 초과 종류의 일부 결과는 버리고 incompleteKinds로 보고
+     */
+    private ScanResult collectKindScans(String scope, List<KindScan> scans) {
+        List<List<FaultInfo>> perKind = new ArrayList<>(scans.size());
+        scans.forEach(scan -> perKind.add(new ArrayList<>()));
+
+        Map<String, String> incomplete = runKindScans(scope, scans, index -> perKind.get(index)::add);
+
+        List<FaultInfo> allFaults = new ArrayList<>();
+        for (int i = 0; i < scans.size(); i++) {
+            if (!incomplete.containsKey(scans.get(i).kind())) {
+                allFaults.addAll(perKind.get(i));
+            }
+        }
+        return new ScanResult(allFaults, incomplete);
+    }
+
+    /**
+     * 종류별 스캔을 동시에 실행하며 찾은 장애를 sinkForKind(종류 순번)로 전달
+     * - 종류마다 제한 시간과 오류를 따로 처리 (한 종류가 실패/지연되어도 나머지 결과는 유지)
+     * - 제한 시간은 작업이 실행을 시작한 시점부터 계산 (다른 요청 때문에 실행기 대기열에서 기다린 시간 제외)
+     *   대기열에서도 제한 시간만큼만 기다리고, 그때까지 시작하지 못하면 시간 초과로 처리
+     * - 시간 초과된 종류는 취소하고 이후 결과를 버림
+     * - sink 호출은 직렬화하며, sink가 예외를 던지면 (클라이언트 연결 종료 등) 나머지 스캔을 취소하고 그 예외를 던짐
+     * - 모든 종류가 실패/시간 초과면 예외 (첫 번째 오류, 모두 시간 초과면 K8sApiException) - "장애 없음"으로 보이지 않도록
+     * @return 결과에서 빠진 종류 -> 사유 (스캔 순서)
+     */
+    private Map<String, String> runKindScans(String scope, List<KindScan> scans,
+                                             IntFunction<Consumer<FaultInfo>> sinkForKind) {
+        long timeoutNanos = TimeUnit.SECONDS.toNanos(kindTimeoutSeconds);
+        Object sinkLock = new Object();
+        RuntimeException[] sinkError = new RuntimeException[1];
+
+        List<KindTask> tasks = new ArrayList<>(scans.size());
+        for (int i = 0; i < scans.size(); i++) {
+            KindScan scan = scans.get(i);
+            Consumer<FaultInfo> sink = sinkForKind.apply(i);
+            KindTask task = new KindTask(scan.kind());
+            task.future = scanExecutor.submit(() -> {
+                task.startedAt = System.nanoTime();
+                task.started = true;
+                scan.scan().accept(fault -> {
+                    synchronized (sinkLock) {
+                        if (task.closed || sinkError[0] != null) {
+                            throw new CancellationException("Scan closed: " + task.kind);
+                        }
+                        try {
+                            sink.accept(fault);
+                        } catch (RuntimeException e) {
+                            sinkError[0] = e;
+                            throw e;
+                        }
+                    }
+                });
+                return null;
+            });
+            tasks.add(task);
         }
+
+        Map<String, String> incomplete = new LinkedHashMap<>();
+        RuntimeException firstError = null;
         try {
-            allFaults.addAll(scanAllCronJobs(clusterId));
-        } catch (Exception e) {
-            log.warn("Failed to scan cronjobs: {}", e.getMessage());
+            for (KindTask task : tasks) {
+                try {
+                    await(task, timeoutNanos);
+                } catch (TimeoutException e) {
+                    synchronized (sinkLock) {
+                        task.closed = true;
+                    }
+                    task.future.cancel(true);
+                    String reason = task.started
+                        ? "timed out after " + kindTimeoutSeconds + "s"
+                        : "not started within " + kindTimeoutSeconds + "s (scan executor busy)";
+                    incomplete.put(task.kind, reason);
+                    log.warn("Scan of {} in {} {}", task.kind, scope, reason);
+                } catch (ExecutionException e) {
+                    synchronized (sinkLock) {
+                        if (sinkError[0] != null) {
+                            throw sinkError[0];
+                        }
+                    }
+                    Throwable cause = e.getCause();
+                    if (firstError == null) {
+                        firstError = cause instanceof RuntimeException runtime
+                            ? runtime
+                            : new IllegalStateException(cause);
+                    }
+                    incomplete.put(task.kind, "failed: " + cause.getMessage());
+                    log.warn("Failed to scan {} in {}: {}", task.kind, scope, cause.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Scan interrupted: " + scope, e);
+                }
+            }
+        } finally {
+            // 남은 종류 취소 (이미 끝난 작업에는 영향 없음)
+            synchronized (sinkLock) {
+                tasks.forEach(task -> task.closed = true);
+            }
+            tasks.forEach(task -> task.future.cancel(true));
         }
 
-        // Node 스캔
-        allFaults.addAll(scanNodes(clusterId));
+        if (incomplete.size() == tasks.size()) {
+            throw firstError != null
+                ? firstError
+                : new K8sApiException("Scan of " + scope + " timed out for every resource kind");
+        }
+        return incomplete;
+    }
 
-        log.info("Full cluster scan completed. Found {} total faults", allFaults.size());
-        return allFaults;
+    /**
+     * 종류별 스캔 완료 대기 (실행 전이면 제출 시점, 실행 후면 시작 시점부터 제한 시간)
+     */
+    private static void await(KindTask task, long timeoutNanos)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        while (true) {
+            boolean started = task.started;
+            long from = started ? task.startedAt : task.submittedAt;
+            long remaining = Math.max(0L, from + timeoutNanos - System.nanoTime());
+            try {
+                task.future.get(remaining, TimeUnit.NANOSECONDS);
+                return;
+            } catch (TimeoutException e) {
+                if (!started && task.started) {
+                    // 기다리는 동안 실행을 시작함 → 시작 시점부터 다시 계산
+                    continue;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 스캔 스레드 팩토리 (데몬 스레드, 이름 지정)
+     */
+    private static class ScanThreadFactory implements java.util.concurrent.ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "diagnostics-scan-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 
     /**
@@ -461,6 +938,19 @@ public class DiagnosticsService {
         return diagnosis;
     }
 
+    /**
+     * 장애 context에 clusterId 추가 (기존 context가 불변 맵일 수 있으므로 복사)
+     */
+    private void addClusterIdContext(List<FaultInfo> faults, String clusterId) {
+        for (FaultInfo f : faults) {
+            Map<String, Object> context = f.getContext() != null
+                    ? new HashMap<>(f.getContext())
+                    : new HashMap<>();
+            context.put("clusterId", clusterId);
+            f.setContext(context);
+        }
+    }
+
     /**
      * 리소스별로 장애 그룹핑 (중복 제거용)
      * 같은 리소스(Pod/Deployment 등)의 여러 장애를 하나로 묶음
@@ -474,35 +964,24 @@ public class DiagnosticsService {
     }
 
     /**
-     * 특정 네임스페이스 전체 스캔 (Pod + Deployment)
+     * 특정 네임스페이스 전체 스캔 (Pod + 워크로드)
      */
     public List<FaultInfo> scanNamespace(String clusterId, String namespace) {
-        log.info("Starting namespace scan for {} in cluster {}", namespace, clusterId);
-
-        List<FaultInfo> allFaults = new ArrayList<>();
-
-        // Pod 스캔
-        allFaults.addAll(scanPodsInNamespace(clusterId, namespace));
+        return scanNamespaceResult(clusterId, namespace).faults();
+    }
 
-        // 워크로드 스캔
-        allFaults.addAll(scanDeploymentsInNamespace(clusterId, namespace));
-        allFaults.addAll(scanDaemonSetsInNamespace(clusterId, namespace));
-        allFaults.addAll(scanStatefulSetsInNamespace(clusterId, namespace));
-        allFaults.addAll(scanReplicaSetsInNamespace(clusterId, namespace));
+    /**
+     * 특정 네임스페이스 전체 스캔 (결과에서 빠진 종류 포함)
+     */
+    public ScanResult scanNamespaceResult(String clusterId, String namespace) {
+        log.info("Starting namespace scan for {} in cluster {}", namespace, clusterId);
 
-        // Job/CronJob 스캔 (실패해도 다른 스캔 결과는 유지)
-        try {
-            allFaults.addAll(scanJobsInNamespace(clusterId, namespace));
-        } catch (Exception e) {
-            log.warn("Failed to scan jobs in namespace {}: {}", namespace, e.getMessage());
-        }
-        try {
-            allFaults.addAll(scanCronJobsInNamespace(clusterId, namespace));
-        } catch (Exception e) {
-            log.warn("Failed to scan cronjobs in namespace {}: {}", namespace, e.getMessage());
-        }
+        ScanResult result = collectKindScans("namespace " + namespace + " of cluster " + clusterId,
+            namespaceKindScans(clusterId, namespace))
+            .withStaleKinds(k8sService.staleCacheKinds(clusterId));
 
-        log.info("Namespace scan completed. Found {} total faults", allFaults.size());
-        return allFaults;
+        log.info("Namespace scan completed. Found {} total faults{}", result.faults().size(),
+            result.isComplete() ? "" : " (incomplete: " + result.incompleteKinds().keySet() + ")");
+        return result;
     }
 }
@@ -1,27 +1,111 @@
 package com.vibecoding.k8sdoctor.service;
 
 import com.vibecoding.k8sdoctor.detector.FaultDetector;
+import com.vibecoding.k8sdoctor.detector.PodFaultDetector;
 import com.vibecoding.k8sdoctor.model.FaultInfo;
+import com.vibecoding.k8sdoctor.model.PodFacts;
 import com.vibecoding.k8sdoctor.model.Severity;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vibecoding.k8sdoctor.repository.OwnerGraph;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodCondition;
+import io.fabric8.kubernetes.api.model.PodStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * 장애 분류 서비스
+ * - 시작 시 탐지기들의 supportedKinds()로 리소스 종류 -> 탐지기 배열 dispatch 테이블을 만들어 둠
+ * - 리소스마다 전체 탐지기를 훑지 않고 해당 종류의 배열만 순회 (stream/람다 할당 없음)
+ * - Pod은 owner 해석과 status/spec 분석을 한 번만 해 PodFacts로 모든 Pod 탐지기에 전달
+ * - 정상 Pod(Running, 전부 Ready, 재시작 없음, 삭제 중 아님)은 탐지기를 실행하지 않음
+ *   (모든 Pod 탐지기가 ignoresHealthyPods()일 때만, 탐지기와 isHealthy의 일치는 HealthyPodFastPathTest로 보장)
+ *   운영 중 안전장치로 건너뛴 Pod 일부는 전체 탐지기로 다시 실행해 불일치가 나오면 빠른 경로를 끔
+ * - 증분 스캔: 클러스터별 uid -> (resourceVersion, 장애) 결과를 보관해 resourceVersion이 같으면 재사용
+ *   (시간 경과로 결과가 바뀌는 탐지기만 다시 실행, 재스캔에서 보이지 않는 uid는 retention 후 만료)
  */
 @Service
-@RequiredArgsConstructor
 public class FaultClassificationService {
 
     private static final Logger log = LoggerFactory.getLogger(FaultClassificationService.class);
 
-    private final List<FaultDetector> detectors;
+    private static final FaultDetector[] NO_DETECTORS = new FaultDetector[0];
+
+    // 리소스 종류 -> 탐지기 (빈 등록 순서 유지, 불변)
+    private final Map<String, FaultDetector[]> detectorsByKind;
+
+    private final OwnerResolver ownerResolver;
+
+    // 정상 Pod 빠른 경로 사용 여부 (표본 점검에서 불일치가 나오면 false로 전환)
+    private volatile boolean healthyFastPath;
+
+    // 건너뛴 정상 Pod 중 verifyEvery번째마다 전체 탐지기 실행 (표본 점검, 0이면 안 함)
+    private final long verifyEvery;
+    private final AtomicLong healthySkipped = new AtomicLong();
+
+    // 클러스터 ID -> (리소스 uid -> 마지막 탐지 결과), 증분 스캔이 꺼져 있으면 null
+    private final Map<String, Map<String, CachedResult>> resultsByCluster;
+    private final Duration resultRetention;
+
+    public FaultClassificationService(
+        List<FaultDetector> detectors,
+        OwnerResolver ownerResolver,
+        @Value("${diagnostics.healthy-fast-path.enabled:true}") boolean healthyFastPathEnabled,
+        @Value("${diagnostics.healthy-fast-path.verify-every:1000}") long verifyEvery,
+        @Value("${diagnostics.incremental.enabled:true}") boolean incrementalEnabled,
+        @Value("${diagnostics.incremental.retention:10m}") Duration resultRetention
+    ) {
+        this.ownerResolver = ownerResolver;
+        this.verifyEvery = verifyEvery;
+        this.resultRetention = resultRetention;
+        this.resultsByCluster = incrementalEnabled
+            ? Caffeine.newBuilder().expireAfterAccess(resultRetention).<String, Map<String, CachedResult>>build().asMap()
+            : null;
+
+        Map<String, List<FaultDetector>> grouped = new HashMap<>();
+        for (FaultDetector detector : detectors) {
+            for (String kind : detector.supportedKinds()) {
+                grouped.computeIfAbsent(kind, key -> new ArrayList<>()).add(detector);
+            }
+        }
+
+        Map<String, FaultDetector[]> table = new HashMap<>();
+        grouped.forEach((kind, kindDetectors) -> table.put(kind, kindDetectors.toArray(NO_DETECTORS)));
+        this.detectorsByKind = Map.copyOf(table);
+
+        grouped.forEach((kind, kindDetectors) -> log.info("Registered {} fault detectors for {}", kindDetectors.size(), kind));
+
+        // 정상 Pod을 무시한다고 선언하지 않은 Pod 탐지기가 있으면 빠른 경로를 쓰지 않음
+        List<String> unchecked = Arrays.stream(detectorsByKind.getOrDefault("Pod", NO_DETECTORS))
+            .filter(detector -> !(detector instanceof PodFaultDetector podDetector) || !podDetector.ignoresHealthyPods())
+            .map(detector -> detector.getClass().getSimpleName())
+            .toList();
+        if (healthyFastPathEnabled && !unchecked.isEmpty()) {
+            log.warn("Healthy pod fast path disabled: detectors not opted in via ignoresHealthyPods(): {}", unchecked);
+        }
+        this.healthyFastPath = healthyFastPathEnabled && unchecked.isEmpty();
+    }
+
+    /**
+     * 리소스 하나의 마지막 탐지 결과 (시간 의존 탐지기의 결과는 제외)
+     */
+    private record CachedResult(String resourceVersion, List<FaultInfo> faults) {
+    }
 
     /**
      * 리소스에서 장애를 탐지
@@ -29,17 +113,178 @@ public class FaultClassificationService {
     public List<FaultInfo> detectFaults(String clusterId, String namespace, String resourceKind, Object resource) {
         log.debug("Detecting faults for {} in namespace {}", resourceKind, namespace);
 
-        return detectors.stream()
-                .filter(detector -> detector.canDetect(resourceKind))
-                .flatMap(detector -> {
-                    try {
-                        return detector.detect(clusterId, namespace, resource).stream();
-                    } catch (Exception e) {
-                        log.warn("Fault detector {} failed: {}", detector.getClass().getSimpleName(), e.getMessage());
-                        return java.util.stream.Stream.empty();
+        FaultDetector[] detectors = detectorsByKind.getOrDefault(resourceKind, NO_DETECTORS);
+        if (detectors.length == 0) {
+            return new ArrayList<>();
+        }
+
+        Pod pod = resource instanceof Pod p ? p : null;
+        boolean verifying = false;
+        if (pod != null && healthyFastPath && isHealthy(pod)) {
+            long skipped = healthySkipped.incrementAndGet();
+            if (verifyEvery <= 0 || skipped % verifyEvery != 0) {
+                return new ArrayList<>();
+            }
+            verifying = true;
+        }
+
+        // 이전 스캔 이후 바뀌지 않은 리소스는 저장된 결과 재사용 (표본 점검 중에는 항상 전체 탐지)
+        ObjectMeta metadata = resource instanceof HasMetadata item ? item.getMetadata() : null;
+        Map<String, CachedResult> results = resultsByCluster != null && !verifying
+            && metadata != null && metadata.getUid() != null && metadata.getResourceVersion() != null
+            ? resultsByCluster.computeIfAbsent(clusterId, id -> newResultMap())
+            : null;
+        CachedResult cached = results != null ? results.get(metadata.getUid()) : null;
+        boolean reuse = cached != null && cached.resourceVersion().equals(metadata.getResourceVersion());
+
+        List<FaultInfo> faults = new ArrayList<>();
+        List<FaultInfo> stable = reuse ? null : new ArrayList<>();
+        if (reuse) {
+            cached.faults().forEach(fault -> faults.add(copyOf(fault)));
+        }
+
+        // Pod은 탐지기 공통 분석을 한 번만 수행 (실행할 Pod 탐지기가 있을 때)
+        PodFacts facts = null;
+        boolean failed = false;
+        for (FaultDetector detector : detectors) {
+            boolean timeDependent = detector.isTimeDependent(resource);
+            if (reuse && !timeDependent) {
+                continue;
+            }
+            try {
+                List<FaultInfo> detected;
+                if (pod != null && detector instanceof PodFaultDetector podDetector) {
+                    if (facts == null) {
+                        facts = podFacts(clusterId, pod);
                     }
-                })
-                .collect(Collectors.toList());
+                    detected = podDetector.detect(clusterId, facts);
+                } else {
+                    detected = detector.detect(clusterId, namespace, resource);
+                }
+                faults.addAll(detected);
+                if (stable != null && !timeDependent) {
+                    detected.forEach(fault -> stable.add(copyOf(fault)));
+                }
+            } catch (Exception e) {
+                failed = true;
+                log.warn("Fault detector {} failed: {}", detector.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+
+        // 탐지기 오류가 있었으면 다음 스캔에서 다시 시도하도록 저장하지 않음
+        if (results != null && !reuse && !failed) {
+            results.put(metadata.getUid(), new CachedResult(metadata.getResourceVersion(), List.copyOf(stable)));
+        }
+
+        // 검사한 리소스 자신의 장애에 uid 기록 (이벤트 조회 시 같은 이름으로 다시 만들어진 오브젝트와 구분)
+        if (metadata != null && metadata.getUid() != null) {
+            for (FaultInfo fault : faults) {
+                if (fault.getResourceUid() == null && resourceKind.equals(fault.getResourceKind())
+                        && Objects.equals(metadata.getName(), fault.getResourceName())) {
+                    fault.setResourceUid(metadata.getUid());
+                }
+            }
+        }
+
+        if (verifying && !faults.isEmpty()) {
+            // 정상으로 분류한 Pod에서 장애가 나옴 → 분류 조건이 탐지기와 맞지 않으므로 빠른 경로 중단
+            healthyFastPath = false;
+            log.error("Healthy pod fast path disabled: pod {}/{} classified healthy but detectors reported {}",
+                namespace, pod.getMetadata().getName(),
+                faults.stream().map(fault -> fault.getFaultType().name()).distinct().toList());
+        }
+        return faults;
+    }
+
+    /**
+     * 어떤 Pod 탐지기에도 걸릴 수 없는 정상 Pod인지 (PodFacts를 만들기 전에 원본 Pod에서 바로 판단)
+     * - 삭제 중 아님, phase Running
+     * - 모든 condition이 True이고 reason 없음
+     * - 컨테이너(init 포함) 모두 재시작 0회, 직전 종료 기록 없음, Waiting 아님
+     * - 일반 컨테이너는 모두 Running + Ready, init 컨테이너는 정상 종료(exit 0)
+     */
+    public static boolean isHealthy(Pod pod) {
+        if (pod.getMetadata() == null || pod.getMetadata().getDeletionTimestamp() != null) {
+            return false;
+        }
+        PodStatus status = pod.getStatus();
+        if (status == null || !"Running".equals(status.getPhase())) {
+            return false;
+        }
+
+        if (status.getConditions() != null) {
+            for (PodCondition condition : status.getConditions()) {
+                if (!"True".equals(condition.getStatus()) || condition.getReason() != null) {
+                    return false;
+                }
+            }
+        }
+
+        List<ContainerStatus> containers = status.getContainerStatuses();
+        if (containers == null || containers.isEmpty()) {
+            return false;
+        }
+        for (ContainerStatus container : containers) {
+            if (!isQuiet(container) || !Boolean.TRUE.equals(container.getReady())
+                    || container.getState().getRunning() == null) {
+                return false;
+            }
+        }
+
+        if (status.getInitContainerStatuses() != null) {
+            for (ContainerStatus container : status.getInitContainerStatuses()) {
+                if (!isQuiet(container)) {
+                    return false;
+                }
+                var terminated = container.getState().getTerminated();
+                // sidecar(restartPolicy: Always) init 컨테이너는 Running + Ready
+                boolean completed = terminated != null && Integer.valueOf(0).equals(terminated.getExitCode());
+                boolean sidecar = container.getState().getRunning() != null && Boolean.TRUE.equals(container.getReady());
+                if (!completed && !sidecar) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 재시작 없음, 직전 종료 기록 없음, Waiting 아님
+     */
+    private static boolean isQuiet(ContainerStatus container) {
+        if (container.getRestartCount() == null || container.getRestartCount() != 0) {
+            return false;
+        }
+        if (container.getLastState() != null && container.getLastState().getTerminated() != null) {
+            return false;
+        }
+        return container.getState() != null && container.getState().getWaiting() == null;
+    }
+
+    private Map<String, CachedResult> newResultMap() {
+        // 재스캔에서 다시 조회되지 않는 uid(삭제된 리소스)는 retention 후 만료
+        return Caffeine.newBuilder()
+            .expireAfterAccess(resultRetention)
+            .<String, CachedResult>build()
+            .asMap();
+    }
+
+    /**
+     * 저장된 장애의 사본 (호출 측이 context/symptoms를 교체해도 저장본은 그대로 유지)
+     */
+    private static FaultInfo copyOf(FaultInfo fault) {
+        return new FaultInfo(fault.getFaultType(), fault.getSeverity(), fault.getResourceKind(),
+            fault.getNamespace(), fault.getResourceName(), fault.getResourceUid(), fault.getSummary(),
+            fault.getDescription(),
+            fault.getSymptoms(), fault.getContext(), fault.getDetectedAt());
+    }
+
+    /**
+     * Pod 사전 분석 (owner 해석 포함)
+     */
+    public PodFacts podFacts(String clusterId, Pod pod) {
+        OwnerGraph.Owner owner = ownerResolver.resolve(clusterId, pod);
+        return PodFacts.of(pod, owner.kind(), owner.name());
     }
 
     /**
@@ -141,6 +386,19 @@ public class FaultClassificationService {
             this.low = low;
         }
 
+        /**
+         * 장애 하나를 통계에 반영 (스트리밍 스캔에서 목록 없이 집계)
+         */
+        public void add(FaultInfo fault) {
+            total++;
+            switch (fault.getSeverity()) {
+                case CRITICAL -> critical++;
+                case HIGH -> high++;
+                case MEDIUM -> medium++;
+                case LOW -> low++;
+            }
+        }
+
         public static class FaultStatisticsBuilder {
             private int total;
             private int critical;
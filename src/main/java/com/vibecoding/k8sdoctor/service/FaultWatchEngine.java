@@ -0,0 +1,252 @@
+package com.vibecoding.k8sdoctor.service;
+
+import com.vibecoding.k8sdoctor.model.FaultInfo;
+import com.vibecoding.k8sdoctor.repository.ClusterRepository;
+import com.vibecoding.k8sdoctor.repository.ClusterResourceCache;
+import com.vibecoding.k8sdoctor.repository.LiveFaultRegistry;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.apps.DaemonSet;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 장애 감시 엔진 (Informer watch 이벤트 기반)
+ * - 리소스 캐시가 있는 클러스터(캐시 모드, 오프라인 덤프)에서 변경된 리소스만 탐지기로 다시 평가해 LiveFaultRegistry 갱신
+ * - 이벤트는 uid별로 마지막 변경만 남겨 tick마다 한 번에 처리 (자주 바뀌는 리소스도 tick당 한 번만 평가)
+ * - resync 주기마다 캐시 전체를 다시 평가 (시간 경과로 바뀌는 장애, 놓친 삭제 이벤트 보정)
+ *   (FaultClassificationService 증분 스캔 덕분에 바뀌지 않은 리소스는 결과 재사용)
+ * - 감시 종류의 Informer가 모두 실제 LIST를 마친 뒤 첫 전체 평가가 끝난 클러스터만 live로 표시
+ *   (스냅샷 warm start 상태는 제외, 그 전에는 호출자가 직접 스캔)
+ * - Node 장애에는 스캔과 같은 형식으로 노드의 Pod 정보를 추가 (노드 인덱스 조회)
+ */
+@Service
+public class FaultWatchEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(FaultWatchEngine.class);
+
+    // 감시하는 리소스 종류 -> 탐지기 dispatch 종류 이름
+    private static final Map<Class<? extends HasMetadata>, String> WATCHED_KINDS = watchedKinds();
+
+    private final ClusterRepository clusterRepository;
+    private final FaultClassificationService faultService;
+    private final LiveFaultRegistry registry;
+    private final boolean enabled;
+    private final long resyncIntervalMillis;
+
+    // 평가 작업 실행기 (스케줄러 스레드를 오래 점유하지 않도록 분리, 한 번에 하나만 실행)
+    private final ExecutorService engineExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fault-watch-engine");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // clusterId/uid -> 아직 처리하지 않은 마지막 변경
+    private final Map<String, PendingChange> pending = new ConcurrentHashMap<>();
+
+    // 클러스터 ID -> 마지막 전체 평가 시각
+    private final Map<String, Long> lastResync = new ConcurrentHashMap<>();
+
+    // 첫 전체 평가가 끝나 레지스트리를 그대로 사용할 수 있는 클러스터
+    private final Set<String> liveClusters = ConcurrentHashMap.newKeySet();
+
+    public FaultWatchEngine(
+        ClusterRepository clusterRepository,
+        FaultClassificationService faultService,
+        LiveFaultRegistry registry,
+        @Value("${diagnostics.engine.enabled:true}") boolean enabled,
+        @Value("${diagnostics.engine.resync-seconds:60}") long resyncSeconds
+    ) {
+        this.clusterRepository = clusterRepository;
+        this.faultService = faultService;
+        this.registry = registry;
+        this.enabled = enabled;
+        this.resyncIntervalMillis = resyncSeconds * 1000L;
+    }
+
+    /**
+     * 처리 대기 중인 변경
+     */
+    private record PendingChange(String clusterId, HasMetadata resource, boolean deleted) {
+    }
+
+    private static Map<Class<? extends HasMetadata>, String> watchedKinds() {
+        Map<Class<? extends HasMetadata>, String> kinds = new LinkedHashMap<>();
+        List.of(Pod.class, Deployment.class, DaemonSet.class, StatefulSet.class, ReplicaSet.class,
+                Job.class, CronJob.class, Node.class)
+            .forEach(type -> kinds.put(type, type.getSimpleName()));
+        return Map.copyOf(kinds);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            clusterRepository.addChangeListener(this::onChange);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        engineExecutor.shutdownNow();
+    }
+
+    /**
+     * Informer 이벤트 수신 (이벤트 스레드 - 대기열에만 넣음)
+     */
+    private void onChange(String clusterId, HasMetadata resource, boolean deleted) {
+        if (!WATCHED_KINDS.containsKey(resource.getClass())
+                || resource.getMetadata() == null || resource.getMetadata().getUid() == null) {
+            return;
+        }
+        pending.put(clusterId + "/" + resource.getMetadata().getUid(), new PendingChange(clusterId, resource, deleted));
+    }
+
+    /**
+     * 스케줄러 tick - 이전 처리가 끝났으면 엔진 스레드에 다음 처리를 제출
+     */
+    @Scheduled(fixedDelayString = "${diagnostics.engine.tick-ms:1000}",
+               initialDelayString = "${diagnostics.engine.tick-ms:1000}")
+    public void tick() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            engineExecutor.execute(() -> {
+                try {
+                    process();
+                } catch (RuntimeException e) {
+                    log.warn("Fault watch engine pass failed: {}", e.getMessage(), e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            running.set(false);
+        }
+    }
+
+    private void process() {
+        Map<String, ClusterResourceCache> caches = clusterRepository.findAllCaches();
+
+        // 해제된 클러스터 정리
+        registry.retainClusters(caches.keySet());
+        lastResync.keySet().retainAll(caches.keySet());
+        liveClusters.retainAll(caches.keySet());
+
+        int changes = 0;
+        for (String key : List.copyOf(pending.keySet())) {
+            PendingChange change = pending.remove(key);
+            if (change == null || !caches.containsKey(change.clusterId())) {
+                continue;
+            }
+            String uid = change.resource().getMetadata().getUid();
+            if (change.deleted()) {
+                registry.resolveAll(change.clusterId(), uid);
+            } else {
+                evaluate(change.clusterId(), caches.get(change.clusterId()), change.resource());
+            }
+            changes++;
+        }
+        if (changes > 0) {
+            log.debug("Fault watch engine processed {} changes", changes);
+        }
+
+        long now = System.currentTimeMillis();
+        caches.forEach((clusterId, cache) -> {
+            Long last = lastResync.get(clusterId);
+            if (last == null || now - last >= resyncIntervalMillis) {
+                resync(clusterId, cache);
+            }
+        });
+    }
+
+    /**
+     * 캐시 전체 재평가 (모든 감시 종류가 API 서버와 동기화된 뒤에만)
+     */
+    private void resync(String clusterId, ClusterResourceCache cache) {
+        for (Class<? extends HasMetadata> type : WATCHED_KINDS.keySet()) {
+            if (!cache.hasLiveData(type)) {
+                return;
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        Set<String> seen = new HashSet<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (Class<? extends HasMetadata> type : WATCHED_KINDS.keySet()) {
+            List<? extends HasMetadata> items = cache.list(type).orElse(List.of());
+            for (HasMetadata item : items) {
+                if (item.getMetadata() != null && item.getMetadata().getUid() != null) {
+                    seen.add(item.getMetadata().getUid());
+                    evaluate(clusterId, cache, item);
+                }
+            }
+            counts.put(WATCHED_KINDS.get(type), items.size());
+        }
+        registry.retainObjects(clusterId, seen);
+
+        lastResync.put(clusterId, System.currentTimeMillis());
+        if (liveClusters.add(clusterId)) {
+            log.info("Fault watch engine is live for cluster {} ({} open faults, {} objects in {}ms)",
+                clusterId, registry.openFaults(clusterId).size(), seen.size(), System.currentTimeMillis() - start);
+        } else {
+            log.debug("Resynced cluster {} in {}ms: {}", clusterId, System.currentTimeMillis() - start, counts);
+        }
+    }
+
+    private void evaluate(String clusterId, ClusterResourceCache cache, HasMetadata resource) {
+        String kind = WATCHED_KINDS.get(resource.getClass());
+        try {
+            List<FaultInfo> faults = faultService.detectFaults(clusterId, resource.getMetadata().getNamespace(),
+                kind, resource);
+            for (FaultInfo fault : faults) {
+                Map<String, Object> context = fault.getContext() != null
+                    ? new HashMap<>(fault.getContext())
+                    : new HashMap<>();
+                context.put("clusterId", clusterId);
+                fault.setContext(context);
+            }
+            if (resource instanceof Node node && !faults.isEmpty()) {
+                List<Pod> pods = cache.byIndex(Pod.class, ClusterResourceCache.POD_NODE_INDEX,
+                    node.getMetadata().getName()).orElse(List.of());
+                DiagnosticsService.addAffectedPods(faults, pods);
+            }
+            registry.update(clusterId, resource.getMetadata().getUid(), faults);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evaluate {} {}/{} in cluster {}: {}", kind, resource.getMetadata().getNamespace(),
+                resource.getMetadata().getName(), clusterId, e.getMessage());
+        }
+    }
+
+    /**
+     * 레지스트리를 그대로 조회해도 되는 클러스터인지 (첫 전체 평가 완료)
+     */
+    public boolean isLive(String clusterId) {
+        return enabled && liveClusters.contains(clusterId);
+    }
+}
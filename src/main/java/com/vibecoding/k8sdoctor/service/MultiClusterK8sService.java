@@ -1,7 +1,11 @@
 package com.vibecoding.k8sdoctor.service;
 
+import com.vibecoding.k8sdoctor.config.CacheConfig;
 import com.vibecoding.k8sdoctor.exception.K8sApiException;
 import com.vibecoding.k8sdoctor.exception.K8sResourceNotFoundException;
+import com.vibecoding.k8sdoctor.repository.ClusterEventStore;
+import com.vibecoding.k8sdoctor.repository.ClusterReadCache;
+import com.vibecoding.k8sdoctor.repository.ClusterResourceCache;
 import io.fabric8.kubernetes.api.model.*;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DaemonSet;
@@ -10,18 +14,41 @@ import io.fabric8.kubernetes.api.model.batch.v1.Job;
 import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * 멀티 클러스터 환경에서 Kubernetes 리소스 조회 서비스
+ * - 캐시 모드(kubernetes.cache.enabled)에서는 Informer store에서 먼저 조회
+ * - Informer가 없으면 Namespace/Node/Deployment/Pod 목록은 ClusterReadCache(TTL)를 거쳐 조회
+ * - API 서버 LIST는 RequestCoalescer로 동일 요청을 하나로 병합
+ * - 모든 API 서버 호출은 ClusterConcurrencyLimiter의 클러스터별 동시 요청 한도를 거침
  */
 @Service
 @RequiredArgsConstructor
@@ -29,35 +56,99 @@ public class MultiClusterK8sService {
 
     private static final Logger log = LoggerFactory.getLogger(MultiClusterK8sService.class);
 
+    // continue 토큰 만료 응답 코드와 스트리밍 LIST 하나에서 허용하는 재시작 횟수
+    private static final int HTTP_GONE = 410;
+    private static final int MAX_LIST_RESTARTS = 3;
+
     private final ClusterService clusterService;
+    private final ClusterReadCache readCache;
+    private final RequestCoalescer requestCoalescer;
+    private final ClusterConcurrencyLimiter concurrencyLimiter;
+
+    @Value("${kubernetes.list.page-size:500}")
+    private long listPageSize;
+
+    @Value("${kubernetes.list.streaming-decode:true}")
+    private boolean streamingDecode;
+
+    // 대용량 LIST 응답 스트리밍 디코더
+    private final StreamingListDecoder streamingDecoder = new StreamingListDecoder();
 
     /**
      * 클러스터의 Kubernetes 클라이언트 조회
+     * - 덤프 기반 오프라인 클러스터는 API 서버가 없으므로 캐시에 없는 조회(로그 등)는 실패
      */
     private KubernetesClient getClient(String clusterId) {
         Optional<KubernetesClient> clientOpt = clusterService.getKubernetesClient(clusterId);
         if (clientOpt.isEmpty()) {
             throw new K8sResourceNotFoundException("Cluster not found: " + clusterId);
         }
+        if (clusterService.getResourceCache(clusterId).map(ClusterResourceCache::isOffline).orElse(false)) {
+            throw new K8sApiException("Not available for offline dump cluster: " + clusterId);
+        }
         return clientOpt.get();
     }
 
+    /**
+     * 초기 동기화가 끝난 리소스 캐시 조회 (캐시 모드가 아니거나 동기화 전이면 empty)
+     */
+    private Optional<ClusterResourceCache> getSyncedCache(String clusterId, Class<? extends HasMetadata> type) {
+        return clusterService.getResourceCache(clusterId)
+            .filter(cache -> cache.isSynced(type));
+    }
+
+    /**
+     * 아직 Informer 동기화 전이라 스냅샷 내용으로 조회되는 종류 (예: "pods" -> "snapshot from 95s ago")
+     */
+    public Map<String, String> staleCacheKinds(String clusterId) {
+        Map<String, String> stale = new LinkedHashMap<>();
+        clusterService.getResourceCache(clusterId).ifPresent(cache ->
+            cache.staleTypes().forEach((type, age) -> stale.put(
+                type.getSimpleName().toLowerCase(Locale.ROOT) + "s",
+                "snapshot from " + age.toSeconds() + "s ago")));
+        return stale;
+    }
+
+    /**
+     * 진행 중인 동일 LIST 요청과 병합 (호출자마다 별도 복사본 반환)
+     */
+    private <T> List<T> coalesce(String clusterId, String kind, String namespace, String selector,
+                                 Supplier<List<T>> call) {
+        RequestCoalescer.Key key = new RequestCoalescer.Key(clusterId, "list", kind, namespace, selector);
+        String operation = "list/" + kind + (namespace != null ? "/namespace" : "") + (selector != null ? "/selector" : "");
+        return new ArrayList<>(requestCoalescer.execute(key, () -> concurrencyLimiter.call(clusterId, operation, call)));
+    }
+
     // ========== Namespace ==========
 
     public List<Namespace> listNamespaces(String clusterId) {
-        try {
-            KubernetesClient client = getClient(clusterId);
-            return client.namespaces().list().getItems();
-        } catch (KubernetesClientException e) {
-            log.error("Failed to list namespaces in cluster: {}", clusterId, e);
-            throw new K8sApiException("Failed to list namespaces", e);
+        Optional<List<Namespace>> cached = getSyncedCache(clusterId, Namespace.class)
+            .flatMap(cache -> cache.list(Namespace.class));
+        if (cached.isPresent()) {
+            return cached.get();
         }
+
+        return readCache.getList(CacheConfig.NAMESPACES, clusterId, null, () -> {
+            try {
+                KubernetesClient client = getClient(clusterId);
+                return coalesce(clusterId, "namespaces", null, null, () -> client.namespaces().list().getItems());
+            } catch (KubernetesClientException e) {
+                log.error("Failed to list namespaces in cluster: {}", clusterId, e);
+                throw new K8sApiException("Failed to list namespaces", e);
+            }
+        });
     }
 
     public Namespace getNamespace(String clusterId, String name) {
+        Optional<ClusterResourceCache> cache = getSyncedCache(clusterId, Namespace.class);
+        if (cache.isPresent()) {
+            return cache.get().get(Namespace.class, null, name)
+                .orElseThrow(() -> new K8sResourceNotFoundException("Namespace not found: " + name));
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            Namespace namespace = client.namespaces().withName(name).get();
+            Namespace namespace = concurrencyLimiter.call(clusterId, () -> client.namespaces().withName(name).get());
             if (namespace == null) {
                 throw new K8sResourceNotFoundException("Namespace not found: " + name);
             }
@@ -71,38 +162,165 @@ public class MultiClusterK8sService {
     // ========== Pod ==========
 
     public List<Pod> listPodsInNamespace(String clusterId, String namespace) {
+        Optional<List<Pod>> cached = getSyncedCache(clusterId, Pod.class)
+            .flatMap(cache -> cache.list(Pod.class, namespace));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return readCache.getList(CacheConfig.PODS, clusterId, namespace, () -> {
+            try {
+                KubernetesClient client = getClient(clusterId);
+                return coalesce(clusterId, "pods", namespace, null, () -> client.pods()
+                    .inNamespace(namespace)
+                    .list()
+                    .getItems());
+            } catch (KubernetesClientException e) {
+                log.error("Failed to list pods in cluster: {}, namespace: {}", clusterId, namespace, e);
+                throw new K8sApiException("Failed to list pods", e);
+            }
+        });
+    }
+
+    public List<Pod> listAllPods(String clusterId) {
+        Optional<List<Pod>> cached = getSyncedCache(clusterId, Pod.class)
+            .flatMap(cache -> cache.list(Pod.class));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return readCache.getList(CacheConfig.PODS, clusterId, null, () -> {
+            try {
+                KubernetesClient client = getClient(clusterId);
+                return coalesce(clusterId, "pods", null, null, () -> client.pods()
+                    .inAnyNamespace()
+                    .list()
+                    .getItems());
+            } catch (KubernetesClientException e) {
+                log.error("Failed to list all pods in cluster: {}", clusterId, e);
+                throw new K8sApiException("Failed to list all pods", e);
+            }
+        });
+    }
+
+    /**
+     * 클러스터 전체 Pod을 페이지 단위로 조회 (limit + continue 토큰)
+     * - 현재 페이지를 처리하는 동안 다음 페이지를 미리 가져옴
+     * - 메모리 사용량은 클러스터 크기가 아닌 페이지 크기에 비례
+     */
+    public void forEachPodPage(String clusterId, Consumer<List<Pod>> pageConsumer) {
+        Optional<List<Pod>> cached = getSyncedCache(clusterId, Pod.class)
+            .flatMap(cache -> cache.list(Pod.class));
+        if (cached.isPresent()) {
+            forEachChunk(cached.get(), pageConsumer);
+            return;
+        }
+
+        KubernetesClient client = getClient(clusterId);
+        forEachPage(clusterId, "pods", options -> client.pods().inAnyNamespace().list(options), pageConsumer);
+    }
+
+    /**
+     * 클러스터 전체 Pod을 하나씩 전달
+     * - 캐시 모드에서는 Informer store에서 전달
+     * - 스트리밍 디코딩이 켜져 있으면 LIST 응답의 items 배열을 읽는 즉시 항목별로 전달
+     *   (메모리에는 디코딩 중인 Pod 하나만 유지)
+     * - 꺼져 있으면 페이지 단위 조회(forEachPodPage)로 동작
+     */
+    public void forEachPod(String clusterId, Consumer<Pod> podConsumer) {
+        Optional<List<Pod>> cached = getSyncedCache(clusterId, Pod.class)
+            .flatMap(cache -> cache.list(Pod.class));
+        if (cached.isPresent()) {
+            cached.get().forEach(podConsumer);
+            return;
+        }
+
+        if (!streamingDecode) {
+            forEachPodPage(clusterId, page -> page.forEach(podConsumer));
+            return;
+        }
+
+        KubernetesClient client = getClient(clusterId);
+        forEachStreamedItem(clusterId, client, "api/v1/pods", Pod.class, podConsumer);
+    }
+
+    /**
+     * 특정 노드에 스케줄된 Pod 조회
+     * - spec.nodeName 필드 셀렉터로 서버 측에서 필터링
+     * - 캐시 모드에서는 노드 인덱스에서 조회
+     */
+    public List<Pod> listPodsOnNode(String clusterId, String nodeName) {
+        Optional<List<Pod>> cached = getSyncedCache(clusterId, Pod.class)
+            .flatMap(cache -> cache.byIndex(Pod.class, ClusterResourceCache.POD_NODE_INDEX, nodeName));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.pods()
-                .inNamespace(namespace)
+            return coalesce(clusterId, "pods", null, "spec.nodeName=" + nodeName, () -> client.pods()
+                .inAnyNamespace()
+                .withField("spec.nodeName", nodeName)
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
-            log.error("Failed to list pods in cluster: {}, namespace: {}", clusterId, namespace, e);
-            throw new K8sApiException("Failed to list pods", e);
+            log.error("Failed to list pods on node: {}/{}", clusterId, nodeName, e);
+            throw new K8sApiException("Failed to list pods on node", e);
         }
     }
 
-    public List<Pod> listAllPods(String clusterId) {
+    /**
+     * 워크로드의 spec.selector로 Pod 조회
+     * - matchLabels/matchExpressions를 서버 측 레이블 셀렉터로 변환해 조회
+     * - 캐시 모드에서는 레이블 인덱스에서 조회
+     * - 셀렉터가 없거나 비어 있으면 빈 목록 (네임스페이스 전체를 반환하지 않음)
+     */
+    public List<Pod> listPodsBySelector(String clusterId, String namespace, LabelSelector selector) {
+        if (selector == null ||
+            ((selector.getMatchLabels() == null || selector.getMatchLabels().isEmpty()) &&
+             (selector.getMatchExpressions() == null || selector.getMatchExpressions().isEmpty()))) {
+            return List.of();
+        }
+
+        Optional<List<Pod>> cached = getSyncedCache(clusterId, Pod.class)
+            .flatMap(cache -> cache.listPodsBySelector(namespace, selector));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.pods()
-                .inAnyNamespace()
+            return coalesce(clusterId, "pods", namespace, String.valueOf(selector), () -> client.pods()
+                .inNamespace(namespace)
+                .withLabelSelector(selector)
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
-            log.error("Failed to list all pods in cluster: {}", clusterId, e);
-            throw new K8sApiException("Failed to list all pods", e);
+            log.error("Failed to list pods by selector in cluster: {}, namespace: {}", clusterId, namespace, e);
+            throw new K8sApiException("Failed to list pods by selector", e);
         }
     }
 
+    /**
+     * Pod 단건 조회 (상세 화면, AI 진단용 전체 객체)
+     * - 캐시가 PodSnapshot 필드만 보관하면 API 서버에서 조회 (annotations, volumes, env 등 포함)
+     */
     public Pod getPod(String clusterId, String namespace, String name) {
+        Optional<ClusterResourceCache> cache = getSyncedCache(clusterId, Pod.class)
+            .filter(synced -> !synced.isProjected(Pod.class));
+        if (cache.isPresent()) {
+            return cache.get().get(Pod.class, namespace, name)
+                .orElseThrow(() -> new K8sResourceNotFoundException(
+                    String.format("Pod not found: %s/%s", namespace, name)
+                ));
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            Pod pod = client.pods()
+            Pod pod = concurrencyLimiter.call(clusterId, () -> client.pods()
                 .inNamespace(namespace)
                 .withName(name)
-                .get();
+                .get());
             if (pod == null) {
                 throw new K8sResourceNotFoundException(
                     String.format("Pod not found: %s/%s", namespace, name)
@@ -121,18 +339,18 @@ public class MultiClusterK8sService {
 
             String logs;
             if (containerName != null && !containerName.isBlank()) {
-                logs = client.pods()
+                logs = concurrencyLimiter.call(clusterId, "logs", () -> client.pods()
                     .inNamespace(namespace)
                     .withName(name)
                     .inContainer(containerName)
                     .tailingLines(tailLines)
-                    .getLog();
+                    .getLog());
             } else {
-                logs = client.pods()
+                logs = concurrencyLimiter.call(clusterId, "logs", () -> client.pods()
                     .inNamespace(namespace)
                     .withName(name)
                     .tailingLines(tailLines)
-                    .getLog();
+                    .getLog());
             }
 
             return logs != null ? logs : "No logs available";
@@ -142,65 +360,69 @@ public class MultiClusterK8sService {
         }
     }
 
-    public List<Event> getPodEvents(String clusterId, String namespace, String name) {
-        try {
-            KubernetesClient client = getClient(clusterId);
-            return client.v1().events()
-                .inNamespace(namespace)
-                .withField("involvedObject.name", name)
-                .withField("involvedObject.kind", "Pod")
-                .list()
-                .getItems()
-                .stream()
-                .sorted(Comparator.comparing(
-                    event -> event.getLastTimestamp() != null
-                        ? event.getLastTimestamp()
-                        : event.getFirstTimestamp(),
-                    Comparator.nullsLast(Comparator.reverseOrder())
-                ))
-                .limit(20)
-                .collect(Collectors.toList());
-        } catch (KubernetesClientException e) {
-            log.error("Failed to get pod events: {}/{}/{}", clusterId, namespace, name, e);
-            throw new K8sApiException("Failed to get pod events", e);
-        }
+    public List<Event> getPodEvents(String clusterId, String namespace, String name, String uid) {
+        return getInvolvedObjectEvents(clusterId, namespace, "Pod", name, uid);
     }
 
     // ========== Deployment ==========
 
     public List<Deployment> listDeploymentsInNamespace(String clusterId, String namespace) {
-        try {
-            KubernetesClient client = getClient(clusterId);
-            return client.apps().deployments()
-                .inNamespace(namespace)
-                .list()
-                .getItems();
-        } catch (KubernetesClientException e) {
-            log.error("Failed to list deployments in cluster: {}, namespace: {}", clusterId, namespace, e);
-            throw new K8sApiException("Failed to list deployments", e);
+        Optional<List<Deployment>> cached = getSyncedCache(clusterId, Deployment.class)
+            .flatMap(cache -> cache.list(Deployment.class, namespace));
+        if (cached.isPresent()) {
+            return cached.get();
         }
+
+        return readCache.getList(CacheConfig.DEPLOYMENTS, clusterId, namespace, () -> {
+            try {
+                KubernetesClient client = getClient(clusterId);
+                return coalesce(clusterId, "deployments", namespace, null, () -> client.apps().deployments()
+                    .inNamespace(namespace)
+                    .list()
+                    .getItems());
+            } catch (KubernetesClientException e) {
+                log.error("Failed to list deployments in cluster: {}, namespace: {}", clusterId, namespace, e);
+                throw new K8sApiException("Failed to list deployments", e);
+            }
+        });
     }
 
     public List<Deployment> listAllDeployments(String clusterId) {
-        try {
-            KubernetesClient client = getClient(clusterId);
-            return client.apps().deployments()
-                .inAnyNamespace()
-                .list()
-                .getItems();
-        } catch (KubernetesClientException e) {
-            log.error("Failed to list all deployments in cluster: {}", clusterId, e);
-            throw new K8sApiException("Failed to list all deployments", e);
+        Optional<List<Deployment>> cached = getSyncedCache(clusterId, Deployment.class)
+            .flatMap(cache -> cache.list(Deployment.class));
+        if (cached.isPresent()) {
+            return cached.get();
         }
+
+        return readCache.getList(CacheConfig.DEPLOYMENTS, clusterId, null, () -> {
+            try {
+                KubernetesClient client = getClient(clusterId);
+                return coalesce(clusterId, "deployments", null, null, () -> client.apps().deployments()
+                    .inAnyNamespace()
+                    .list()
+                    .getItems());
+            } catch (KubernetesClientException e) {
+                log.error("Failed to list all deployments in cluster: {}", clusterId, e);
+                throw new K8sApiException("Failed to list all deployments", e);
+            }
+        });
     }
 
     public Deployment getDeployment(String clusterId, String namespace, String name) {
+        Optional<ClusterResourceCache> cache = getSyncedCache(clusterId, Deployment.class);
+        if (cache.isPresent()) {
+            return cache.get().get(Deployment.class, namespace, name)
+                .orElseThrow(() -> new K8sResourceNotFoundException(
+                    String.format("Deployment not found: %s/%s", namespace, name)
+                ));
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            Deployment deployment = client.apps().deployments()
+            Deployment deployment = concurrencyLimiter.call(clusterId, () -> client.apps().deployments()
                 .inNamespace(namespace)
                 .withName(name)
-                .get();
+                .get());
             if (deployment == null) {
                 throw new K8sResourceNotFoundException(
                     String.format("Deployment not found: %s/%s", namespace, name)
@@ -213,39 +435,25 @@ public class MultiClusterK8sService {
         }
     }
 
-    public List<Event> getDeploymentEvents(String clusterId, String namespace, String name) {
-        try {
-            KubernetesClient client = getClient(clusterId);
-            return client.v1().events()
-                .inNamespace(namespace)
-                .withField("involvedObject.name", name)
-                .withField("involvedObject.kind", "Deployment")
-                .list()
-                .getItems()
-                .stream()
-                .sorted(Comparator.comparing(
-                    event -> event.getLastTimestamp() != null
-                        ? event.getLastTimestamp()
-                        : event.getFirstTimestamp(),
-                    Comparator.nullsLast(Comparator.reverseOrder())
-                ))
-                .limit(20)
-                .collect(Collectors.toList());
-        } catch (KubernetesClientException e) {
-            log.error("Failed to get deployment events: {}/{}/{}", clusterId, namespace, name, e);
-            throw new K8sApiException("Failed to get deployment events", e);
-        }
+    public List<Event> getDeploymentEvents(String clusterId, String namespace, String name, String uid) {
+        return getInvolvedObjectEvents(clusterId, namespace, "Deployment", name, uid);
     }
 
     // ========== DaemonSet ==========
 
     public List<DaemonSet> listDaemonSetsInNamespace(String clusterId, String namespace) {
+        Optional<List<DaemonSet>> cached = getSyncedCache(clusterId, DaemonSet.class)
+            .flatMap(cache -> cache.list(DaemonSet.class, namespace));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.apps().daemonSets()
+            return coalesce(clusterId, "daemonsets", namespace, null, () -> client.apps().daemonSets()
                 .inNamespace(namespace)
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list daemonsets in cluster: {}, namespace: {}", clusterId, namespace, e);
             throw new K8sApiException("Failed to list daemonsets", e);
@@ -253,12 +461,18 @@ public class MultiClusterK8sService {
     }
 
     public List<DaemonSet> listAllDaemonSets(String clusterId) {
+        Optional<List<DaemonSet>> cached = getSyncedCache(clusterId, DaemonSet.class)
+            .flatMap(cache -> cache.list(DaemonSet.class));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.apps().daemonSets()
+            return coalesce(clusterId, "daemonsets", null, null, () -> client.apps().daemonSets()
                 .inAnyNamespace()
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list all daemonsets in cluster: {}", clusterId, e);
             throw new K8sApiException("Failed to list all daemonsets", e);
@@ -266,12 +480,20 @@ public class MultiClusterK8sService {
     }
 
     public DaemonSet getDaemonSet(String clusterId, String namespace, String name) {
+        Optional<ClusterResourceCache> cache = getSyncedCache(clusterId, DaemonSet.class);
+        if (cache.isPresent()) {
+            return cache.get().get(DaemonSet.class, namespace, name)
+                .orElseThrow(() -> new K8sResourceNotFoundException(
+                    String.format("DaemonSet not found: %s/%s", namespace, name)
+                ));
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            DaemonSet daemonSet = client.apps().daemonSets()
+            DaemonSet daemonSet = concurrencyLimiter.call(clusterId, () -> client.apps().daemonSets()
                 .inNamespace(namespace)
                 .withName(name)
-                .get();
+                .get());
             if (daemonSet == null) {
                 throw new K8sResourceNotFoundException(
                     String.format("DaemonSet not found: %s/%s", namespace, name)
@@ -284,46 +506,40 @@ public class MultiClusterK8sService {
         }
     }
 
-    public List<Event> getDaemonSetEvents(String clusterId, String namespace, String name) {
-        try {
-            KubernetesClient client = getClient(clusterId);
-            return client.v1().events()
-                .inNamespace(namespace)
-                .withField("involvedObject.name", name)
-                .withField("involvedObject.kind", "DaemonSet")
-                .list()
-                .getItems()
-                .stream()
-                .sorted(Comparator.comparing(
-                    event -> event.getLastTimestamp() != null
-                        ? event.getLastTimestamp()
-                        : event.getFirstTimestamp(),
-                    Comparator.nullsLast(Comparator.reverseOrder())
-                ))
-                .limit(20)
-                .collect(Collectors.toList());
-        } catch (KubernetesClientException e) {
-            log.error("Failed to get daemonset events: {}/{}/{}", clusterId, namespace, name, e);
-            throw new K8sApiException("Failed to get daemonset events", e);
-        }
+    public List<Event> getDaemonSetEvents(String clusterId, String namespace, String name, String uid) {
+        return getInvolvedObjectEvents(clusterId, namespace, "DaemonSet", name, uid);
     }
 
     // ========== Node ==========
 
     public List<Node> listNodes(String clusterId) {
-        try {
-            KubernetesClient client = getClient(clusterId);
-            return client.nodes().list().getItems();
-        } catch (KubernetesClientException e) {
-            log.error("Failed to list nodes in cluster: {}", clusterId, e);
-            throw new K8sApiException("Failed to list nodes", e);
+        Optional<List<Node>> cached = getSyncedCache(clusterId, Node.class)
+            .flatMap(cache -> cache.list(Node.class));
+        if (cached.isPresent()) {
+            return cached.get();
         }
+
+        return readCache.getList(CacheConfig.NODES, clusterId, null, () -> {
+            try {
+                KubernetesClient client = getClient(clusterId);
+                return coalesce(clusterId, "nodes", null, null, () -> client.nodes().list().getItems());
+            } catch (KubernetesClientException e) {
+                log.error("Failed to list nodes in cluster: {}", clusterId, e);
+                throw new K8sApiException("Failed to list nodes", e);
+            }
+        });
     }
 
     public Node getNode(String clusterId, String name) {
+        Optional<ClusterResourceCache> cache = getSyncedCache(clusterId, Node.class);
+        if (cache.isPresent()) {
+            return cache.get().get(Node.class, null, name)
+                .orElseThrow(() -> new K8sResourceNotFoundException("Node not found: " + name));
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            Node node = client.nodes().withName(name).get();
+            Node node = concurrencyLimiter.call(clusterId, () -> client.nodes().withName(name).get());
             if (node == null) {
                 throw new K8sResourceNotFoundException("Node not found: " + name);
             }
@@ -336,20 +552,55 @@ public class MultiClusterK8sService {
 
     // ========== Events ==========
 
+    /**
+     * involvedObject 기준 이벤트 조회 (최신 20개)
+     * - uid가 주어지면 해당 오브젝트의 이벤트만 (같은 이름으로 삭제 후 다시 만들어진 이전 오브젝트의 이벤트 제외)
+     * - 캐시 모드에서는 watch 기반 이벤트 저장소에서 조회 (네트워크 왕복 없음)
+     */
+    private List<Event> getInvolvedObjectEvents(String clusterId, String namespace, String kind, String name,
+                                                String uid) {
+        Optional<ClusterEventStore> eventStore = clusterService.getResourceCache(clusterId)
+            .flatMap(ClusterResourceCache::events);
+        if (eventStore.isPresent()) {
+            return eventStore.get().find(kind, namespace, name, uid, ClusterEventStore.MAX_EVENTS_PER_OBJECT);
+        }
+
+        try {
+            KubernetesClient client = getClient(clusterId);
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put("involvedObject.kind", kind);
+            fields.put("involvedObject.name", name);
+            if (uid != null) {
+                fields.put("involvedObject.uid", uid);
+            }
+            String selector = fields.entrySet().stream()
+                .map(field -> field.getKey() + "=" + field.getValue())
+                .collect(Collectors.joining(","));
+            return coalesce(clusterId, "events", namespace, selector, () -> client.v1().events()
+                .inNamespace(namespace)
+                .withFields(fields)
+                .list()
+                .getItems())
+                .stream()
+                .sorted(ClusterEventStore.LATEST_FIRST)
+                .limit(ClusterEventStore.MAX_EVENTS_PER_OBJECT)
+                .collect(Collectors.toList());
+        } catch (KubernetesClientException e) {
+            String label = kind.toLowerCase();
+            log.error("Failed to get {} events: {}/{}/{}", label, clusterId, namespace, name, e);
+            throw new K8sApiException("Failed to get " + label + " events", e);
+        }
+    }
+
     public List<Event> listEventsInNamespace(String clusterId, String namespace, int limit) {
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.v1().events()
+            return coalesce(clusterId, "events", namespace, null, () -> client.v1().events()
                 .inNamespace(namespace)
                 .list()
-                .getItems()
+                .getItems())
                 .stream()
-                .sorted(Comparator.comparing(
-                    event -> event.getLastTimestamp() != null
-                        ? event.getLastTimestamp()
-                        : event.getFirstTimestamp(),
-                    Comparator.nullsLast(Comparator.reverseOrder())
-                ))
+                .sorted(ClusterEventStore.LATEST_FIRST)
                 .limit(limit)
                 .collect(Collectors.toList());
         } catch (KubernetesClientException e) {
@@ -368,18 +619,18 @@ public class MultiClusterK8sService {
             KubernetesClient client = getClient(clusterId);
 
             if (containerName != null && !containerName.isBlank()) {
-                return client.pods()
+                return concurrencyLimiter.call(clusterId, "logs", () -> client.pods()
                         .inNamespace(namespace)
                         .withName(podName)
                         .inContainer(containerName)
                         .tailingLines(tailLines != null ? tailLines : 100)
-                        .getLog();
+                        .getLog());
             } else {
-                return client.pods()
+                return concurrencyLimiter.call(clusterId, "logs", () -> client.pods()
                         .inNamespace(namespace)
                         .withName(podName)
                         .tailingLines(tailLines != null ? tailLines : 100)
-                        .getLog();
+                        .getLog());
             }
         } catch (Exception e) {
             log.warn("Failed to get logs for pod {}/{}: {}", namespace, podName, e.getMessage());
@@ -390,12 +641,18 @@ public class MultiClusterK8sService {
     // ==================== StatefulSet ====================
 
     public List<StatefulSet> listStatefulSetsInNamespace(String clusterId, String namespace) {
+        Optional<List<StatefulSet>> cached = getSyncedCache(clusterId, StatefulSet.class)
+            .flatMap(cache -> cache.list(StatefulSet.class, namespace));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.apps().statefulSets()
+            return coalesce(clusterId, "statefulsets", namespace, null, () -> client.apps().statefulSets()
                 .inNamespace(namespace)
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list statefulsets in cluster: {}, namespace: {}", clusterId, namespace, e);
             throw new K8sApiException("Failed to list statefulsets", e);
@@ -403,12 +660,18 @@ public class MultiClusterK8sService {
     }
 
     public List<StatefulSet> listAllStatefulSets(String clusterId) {
+        Optional<List<StatefulSet>> cached = getSyncedCache(clusterId, StatefulSet.class)
+            .flatMap(cache -> cache.list(StatefulSet.class));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.apps().statefulSets()
+            return coalesce(clusterId, "statefulsets", null, null, () -> client.apps().statefulSets()
                 .inAnyNamespace()
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list all statefulsets in cluster: {}", clusterId, e);
             throw new K8sApiException("Failed to list all statefulsets", e);
@@ -416,12 +679,20 @@ public class MultiClusterK8sService {
     }
 
     public StatefulSet getStatefulSet(String clusterId, String namespace, String name) {
+        Optional<ClusterResourceCache> cache = getSyncedCache(clusterId, StatefulSet.class);
+        if (cache.isPresent()) {
+            return cache.get().get(StatefulSet.class, namespace, name)
+                .orElseThrow(() -> new K8sResourceNotFoundException(
+                    String.format("StatefulSet not found: %s/%s", namespace, name)
+                ));
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            StatefulSet statefulSet = client.apps().statefulSets()
+            StatefulSet statefulSet = concurrencyLimiter.call(clusterId, () -> client.apps().statefulSets()
                 .inNamespace(namespace)
                 .withName(name)
-                .get();
+                .get());
             if (statefulSet == null) {
                 throw new K8sResourceNotFoundException(
                     String.format("StatefulSet not found: %s/%s", namespace, name)
@@ -434,39 +705,26 @@ public class MultiClusterK8sService {
         }
     }
 
-    public List<Event> getStatefulSetEvents(String clusterId, String namespace, String name) {
-        try {
-            KubernetesClient client = getClient(clusterId);
-            return client.v1().events()
-                .inNamespace(namespace)
-                .withField("involvedObject.name", name)
-                .withField("involvedObject.kind", "StatefulSet")
-                .list()
-                .getItems()
-                .stream()
-                .sorted(Comparator.comparing(
-                    event -> event.getLastTimestamp() != null
-                        ? event.getLastTimestamp()
-                        : event.getFirstTimestamp(),
-                    Comparator.nullsLast(Comparator.reverseOrder())
-                ))
-                .limit(20)
-                .collect(Collectors.toList());
-        } catch (KubernetesClientException e) {
-            log.error("Failed to get statefulset events: {}/{}/{}", clusterId, namespace, name, e);
-            throw new K8sApiException("Failed to get statefulset events", e);
-        }
+    public List<Event> getStatefulSetEvents(String clusterId, String namespace, String name, String uid) {
+        return getInvolvedObjectEvents(clusterId, namespace, "StatefulSet", name, uid);
     }
 
     // ==================== ReplicaSet ====================
 
     public List<io.fabric8.kubernetes.api.model.apps.ReplicaSet> listReplicaSetsInNamespace(String clusterId, String namespace) {
+        Optional<List<io.fabric8.kubernetes.api.model.apps.ReplicaSet>> cached =
+            getSyncedCache(clusterId, io.fabric8.kubernetes.api.model.apps.ReplicaSet.class)
+            .flatMap(cache -> cache.list(io.fabric8.kubernetes.api.model.apps.ReplicaSet.class, namespace));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.apps().replicaSets()
+            return coalesce(clusterId, "replicasets", namespace, null, () -> client.apps().replicaSets()
                 .inNamespace(namespace)
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list replicasets in cluster: {}, namespace: {}", clusterId, namespace, e);
             throw new K8sApiException("Failed to list replicasets", e);
@@ -474,12 +732,19 @@ public class MultiClusterK8sService {
     }
 
     public List<io.fabric8.kubernetes.api.model.apps.ReplicaSet> listAllReplicaSets(String clusterId) {
+        Optional<List<io.fabric8.kubernetes.api.model.apps.ReplicaSet>> cached =
+            getSyncedCache(clusterId, io.fabric8.kubernetes.api.model.apps.ReplicaSet.class)
+            .flatMap(cache -> cache.list(io.fabric8.kubernetes.api.model.apps.ReplicaSet.class));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.apps().replicaSets()
+            return coalesce(clusterId, "replicasets", null, null, () -> client.apps().replicaSets()
                 .inAnyNamespace()
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list all replicasets in cluster: {}", clusterId, e);
             throw new K8sApiException("Failed to list all replicasets", e);
@@ -489,12 +754,18 @@ public class MultiClusterK8sService {
     // ==================== Job ====================
 
     public List<Job> listJobsInNamespace(String clusterId, String namespace) {
+        Optional<List<Job>> cached = getSyncedCache(clusterId, Job.class)
+            .flatMap(cache -> cache.list(Job.class, namespace));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.batch().v1().jobs()
+            return coalesce(clusterId, "jobs", namespace, null, () -> client.batch().v1().jobs()
                 .inNamespace(namespace)
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list jobs in cluster: {}, namespace: {}", clusterId, namespace, e);
             throw new K8sApiException("Failed to list jobs", e);
@@ -502,25 +773,54 @@ public class MultiClusterK8sService {
     }
 
     public List<Job> listAllJobs(String clusterId) {
+        Optional<List<Job>> cached = getSyncedCache(clusterId, Job.class)
+            .flatMap(cache -> cache.list(Job.class));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.batch().v1().jobs()
+            return coalesce(clusterId, "jobs", null, null, () -> client.batch().v1().jobs()
                 .inAnyNamespace()
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list all jobs in cluster: {}", clusterId, e);
             throw new K8sApiException("Failed to list all jobs", e);
         }
     }
 
+    /**
+     * 클러스터 전체 Job을 페이지 단위로 조회 (limit + continue 토큰)
+     */
+    public void forEachJobPage(String clusterId, Consumer<List<Job>> pageConsumer) {
+        Optional<List<Job>> cached = getSyncedCache(clusterId, Job.class)
+            .flatMap(cache -> cache.list(Job.class));
+        if (cached.isPresent()) {
+            forEachChunk(cached.get(), pageConsumer);
+            return;
+        }
+
+        KubernetesClient client = getClient(clusterId);
+        forEachPage(clusterId, "jobs", options -> client.batch().v1().jobs().inAnyNamespace().list(options), pageConsumer);
+    }
+
     public Job getJob(String clusterId, String namespace, String name) {
+        Optional<ClusterResourceCache> cache = getSyncedCache(clusterId, Job.class);
+        if (cache.isPresent()) {
+            return cache.get().get(Job.class, namespace, name)
+                .orElseThrow(() -> new K8sResourceNotFoundException(
+                    String.format("Job not found: %s/%s", namespace, name)
+                ));
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            Job job = client.batch().v1().jobs()
+            Job job = concurrencyLimiter.call(clusterId, () -> client.batch().v1().jobs()
                 .inNamespace(namespace)
                 .withName(name)
-                .get();
+                .get());
             if (job == null) {
                 throw new K8sResourceNotFoundException(
                     String.format("Job not found: %s/%s", namespace, name)
@@ -538,11 +838,11 @@ public class MultiClusterK8sService {
             KubernetesClient client = getClient(clusterId);
 
             // Job이 생성한 Pod 찾기
-            List<Pod> jobPods = client.pods()
+            List<Pod> jobPods = concurrencyLimiter.call(clusterId, () -> client.pods()
                 .inNamespace(namespace)
                 .withLabel("job-name", jobName)
                 .list()
-                .getItems();
+                .getItems());
 
             if (jobPods.isEmpty()) {
                 return "No pods found for this job";
@@ -557,11 +857,11 @@ public class MultiClusterK8sService {
                 ))
                 .orElse(jobPods.get(0));
 
-            String logs = client.pods()
+            String logs = concurrencyLimiter.call(clusterId, "logs", () -> client.pods()
                 .inNamespace(namespace)
                 .withName(latestPod.getMetadata().getName())
                 .tailingLines(100)
-                .getLog();
+                .getLog());
 
             return logs != null ? logs : "No logs available";
         } catch (KubernetesClientException e) {
@@ -570,39 +870,25 @@ public class MultiClusterK8sService {
         }
     }
 
-    public List<Event> getJobEvents(String clusterId, String namespace, String name) {
-        try {
-            KubernetesClient client = getClient(clusterId);
-            return client.v1().events()
-                .inNamespace(namespace)
-                .withField("involvedObject.name", name)
-                .withField("involvedObject.kind", "Job")
-                .list()
-                .getItems()
-                .stream()
-                .sorted(Comparator.comparing(
-                    event -> event.getLastTimestamp() != null
-                        ? event.getLastTimestamp()
-                        : event.getFirstTimestamp(),
-                    Comparator.nullsLast(Comparator.reverseOrder())
-                ))
-                .limit(20)
-                .collect(Collectors.toList());
-        } catch (KubernetesClientException e) {
-            log.error("Failed to get job events: {}/{}/{}", clusterId, namespace, name, e);
-            throw new K8sApiException("Failed to get job events", e);
-        }
+    public List<Event> getJobEvents(String clusterId, String namespace, String name, String uid) {
+        return getInvolvedObjectEvents(clusterId, namespace, "Job", name, uid);
     }
 
     // ==================== CronJob ====================
 
     public List<CronJob> listCronJobsInNamespace(String clusterId, String namespace) {
+        Optional<List<CronJob>> cached = getSyncedCache(clusterId, CronJob.class)
+            .flatMap(cache -> cache.list(CronJob.class, namespace));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.batch().v1().cronjobs()
+            return coalesce(clusterId, "cronjobs", namespace, null, () -> client.batch().v1().cronjobs()
                 .inNamespace(namespace)
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list cronjobs in cluster: {}, namespace: {}", clusterId, namespace, e);
             throw new K8sApiException("Failed to list cronjobs", e);
@@ -610,12 +896,18 @@ public class MultiClusterK8sService {
     }
 
     public List<CronJob> listAllCronJobs(String clusterId) {
+        Optional<List<CronJob>> cached = getSyncedCache(clusterId, CronJob.class)
+            .flatMap(cache -> cache.list(CronJob.class));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            return client.batch().v1().cronjobs()
+            return coalesce(clusterId, "cronjobs", null, null, () -> client.batch().v1().cronjobs()
                 .inAnyNamespace()
                 .list()
-                .getItems();
+                .getItems());
         } catch (KubernetesClientException e) {
             log.error("Failed to list all cronjobs in cluster: {}", clusterId, e);
             throw new K8sApiException("Failed to list all cronjobs", e);
@@ -623,12 +915,20 @@ public class MultiClusterK8sService {
     }
 
     public CronJob getCronJob(String clusterId, String namespace, String name) {
+        Optional<ClusterResourceCache> cache = getSyncedCache(clusterId, CronJob.class);
+        if (cache.isPresent()) {
+            return cache.get().get(CronJob.class, namespace, name)
+                .orElseThrow(() -> new K8sResourceNotFoundException(
+                    String.format("CronJob not found: %s/%s", namespace, name)
+                ));
+        }
+
         try {
             KubernetesClient client = getClient(clusterId);
-            CronJob cronJob = client.batch().v1().cronjobs()
+            CronJob cronJob = concurrencyLimiter.call(clusterId, () -> client.batch().v1().cronjobs()
                 .inNamespace(namespace)
                 .withName(name)
-                .get();
+                .get());
             if (cronJob == null) {
                 throw new K8sResourceNotFoundException(
                     String.format("CronJob not found: %s/%s", namespace, name)
@@ -641,27 +941,259 @@ public class MultiClusterK8sService {
         }
     }
 
-    public List<Event> getCronJobEvents(String clusterId, String namespace, String name) {
+    public List<Event> getCronJobEvents(String clusterId, String namespace, String name, String uid) {
+        return getInvolvedObjectEvents(clusterId, namespace, "CronJob", name, uid);
+    }
+
+    // ==================== Pagination ====================
+
+    /**
+     * LIST 응답을 스트리밍 디코딩하며 항목별로 전달 (limit/continue 페이지 반복)
+     * - 동시 요청 슬롯은 요청 전송~응답 헤더 수신까지만 점유 (항목 처리 시간을 API 지연으로 계산하지 않음)
+     * - continue 토큰이 만료되면(410) 서버가 준 inconsistent continue 토큰으로 이어서 조회하고,
+     *   토큰이 없으면 처음부터 다시 LIST하되 이미 전달한 항목은 건너뜀 (LIST는 키 순서로 반환됨)
+     */
+    private <T extends HasMetadata> void forEachStreamedItem(
+            String clusterId, KubernetesClient client, String path, Class<T> itemType, Consumer<T> itemConsumer) {
+        ListCursor cursor = new ListCursor();
+        Consumer<T> unseen = item -> {
+            if (cursor.advance(item)) {
+                itemConsumer.accept(item);
+            }
+        };
+        String continueToken = null;
+        int pageCount = 0;
+
+        while (true) {
+            String token = continueToken;
+            HttpResponse<InputStream> response;
+            try {
+                response = concurrencyLimiter.call(clusterId, "list/" + path,
+                    () -> openListPage(clusterId, client, path, token));
+            } catch (KubernetesClientException e) {
+                continueToken = resumeExpiredList(clusterId, path, cursor, pageCount, e);
+                continue;
+            }
+
+            try (InputStream body = response.body()) {
+                continueToken = streamingDecoder.decode(body, itemType, unseen);
+            } catch (IOException e) {
+                log.error("Failed to decode {} list from cluster: {}", path, clusterId, e);
+                throw new K8sApiException("Failed to decode " + path + " list", e);
+            }
+            pageCount++;
+
+            if (continueToken == null || continueToken.isEmpty()) {
+                break;
+            }
+        }
+
+        log.debug("Streamed {} in {} pages from cluster: {}", path, pageCount, clusterId);
+    }
+
+    /**
+     * LIST 페이지 요청 전송 (응답 헤더까지 수신, 본문은 호출자가 읽음)
+     * - 2xx가 아니면 Status 본문을 읽어 KubernetesClientException으로 전달 (429는 ClusterConcurrencyLimiter가 처리)
+     */
+    private HttpResponse<InputStream> openListPage(String clusterId, KubernetesClient client, String path,
+                                                   String continueToken) {
+        String masterUrl = client.getMasterUrl().toString();
+        StringBuilder url = new StringBuilder(masterUrl);
+        if (!masterUrl.endsWith("/")) {
+            url.append('/');
+        }
+        url.append(path).append("?limit=").append(listPageSize);
+        if (continueToken != null && !continueToken.isEmpty()) {
+            url.append("&continue=").append(URLEncoder.encode(continueToken, StandardCharsets.UTF_8));
+        }
+
+        HttpClient httpClient = client.getHttpClient();
+        HttpRequest request = httpClient.newHttpRequestBuilder()
+            .uri(url.toString())
+            .header("Accept", "application/json")
+            .build();
+
+        HttpResponse<InputStream> response;
         try {
-            KubernetesClient client = getClient(clusterId);
-            return client.v1().events()
-                .inNamespace(namespace)
-                .withField("involvedObject.name", name)
-                .withField("involvedObject.kind", "CronJob")
-                .list()
-                .getItems()
-                .stream()
-                .sorted(Comparator.comparing(
-                    event -> event.getLastTimestamp() != null
-                        ? event.getLastTimestamp()
-                        : event.getFirstTimestamp(),
-                    Comparator.nullsLast(Comparator.reverseOrder())
-                ))
-                .limit(20)
-                .collect(Collectors.toList());
-        } catch (KubernetesClientException e) {
-            log.error("Failed to get cronjob events: {}/{}/{}", clusterId, namespace, name, e);
-            throw new K8sApiException("Failed to get cronjob events", e);
+            response = httpClient.sendAsync(request, InputStream.class)
+                .get(client.getConfiguration().getRequestTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new K8sApiException("Interrupted while listing " + path, e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Failed to list {} in cluster: {}", path, clusterId, e);
+            throw new K8sApiException("Failed to list " + path, e);
+        }
+
+        if (response.isSuccessful()) {
+            return response;
+        }
+        Status status = null;
+        try (InputStream body = response.body()) {
+            status = streamingDecoder.decodeStatus(body);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to read error status of {} list in cluster {}: {}", path, clusterId, e.getMessage());
+        }
+        throw new KubernetesClientException("Failed to list " + path + ": HTTP " + response.code(),
+            response.code(), status);
+    }
+
+    private static String inconsistentContinueToken(KubernetesClientException e) {
+        Status status = e.getStatus();
+        String token = status != null && status.getMetadata() != null ? status.getMetadata().getContinue() : null;
+        return token != null && !token.isEmpty() ? token : null;
+    }
+
+    /**
+     * continue 토큰 만료(410) 처리 - 이어서 조회할 continue 토큰 반환
+     * - 서버가 준 inconsistent continue 토큰이 있으면 그 토큰, 없으면 null (처음부터 다시 LIST, 이미 전달한 항목은 cursor가 건너뜀)
+     * - 만료가 아니거나 재시작 횟수(MAX_LIST_RESTARTS)를 넘으면 K8sApiException
+     */
+    private String resumeExpiredList(String clusterId, String what, ListCursor cursor, int pageCount,
+                                     KubernetesClientException e) {
+        if (e.getCode() != HTTP_GONE || cursor.restarts >= MAX_LIST_RESTARTS) {
+            log.error("Failed to list {} in cluster: {}", what, clusterId, e);
+            throw new K8sApiException("Failed to list " + what + ": HTTP " + e.getCode(), e);
+        }
+
+        cursor.restarts++;
+        String continueToken = inconsistentContinueToken(e);
+        if (continueToken == null) {
+            cursor.restart();
+        }
+        log.warn("Continue token for {} expired in cluster {} after {} pages, {}", what, clusterId,
+            pageCount, continueToken != null ? "continuing with inconsistent list" : "restarting list");
+        return continueToken;
+    }
+
+    /**
+     * 페이지 LIST의 전달 위치 (다시 LIST할 때 이미 전달한 항목을 건너뛰기 위함)
+     * - 항목 키(namespace/name)는 etcd 키 순서와 같은 순서로 반환됨
+     */
+    private static final class ListCursor {
+        private String lastKey;
+        private String skipThrough;
+        private int restarts;
+
+        private void restart() {
+            skipThrough = lastKey;
+        }
+
+        /**
+         * 아직 전달하지 않은 항목이면 위치를 옮기고 true
+         */
+        private boolean advance(HasMetadata item) {
+            String key = item.getMetadata().getNamespace() != null
+                ? item.getMetadata().getNamespace() + "/" + item.getMetadata().getName()
+                : item.getMetadata().getName();
+            if (skipThrough != null) {
+                if (key.compareTo(skipThrough) <= 0) {
+                    return false;
+                }
+                skipThrough = null;
+            }
+            lastKey = key;
+            return true;
+        }
+
+        private <T extends HasMetadata> List<T> unseen(List<T> items) {
+            if (skipThrough == null) {
+                items.forEach(this::advance);
+                return items;
+            }
+            List<T> unseen = new ArrayList<>(items.size());
+            for (T item : items) {
+                if (advance(item)) {
+                    unseen.add(item);
+                }
+            }
+            return unseen;
+        }
+    }
+
+    /**
+     * limit/continue 기반 페이지 조회
+     * - 다음 페이지 요청을 먼저 보낸 뒤 현재 페이지를 consumer에 전달
+     * - 선조회는 클러스터 전용 스레드에서 슬롯을 기다림 (ClusterConcurrencyLimiter.callAsync)
+     * - continue 토큰이 만료되면(410) forEachStreamedItem과 같은 방식으로 이어서 조회
+     */
+    private <T extends HasMetadata, L extends KubernetesResourceList<T>> void forEachPage(
+            String clusterId, String kind, Function<ListOptions, L> fetcher, Consumer<List<T>> pageConsumer) {
+        ListCursor cursor = new ListCursor();
+        CompletableFuture<L> next = fetchPageAsync(clusterId, kind, fetcher, null);
+        int pageCount = 0;
+
+        while (next != null) {
+            L page;
+            try {
+                page = awaitPage(clusterId, kind, next);
+            } catch (KubernetesClientException e) {
+                next = fetchPageAsync(clusterId, kind, fetcher, resumeExpiredList(clusterId, kind, cursor, pageCount, e));
+                continue;
+            }
+            pageCount++;
+
+            String continueToken = page.getMetadata() != null ? page.getMetadata().getContinue() : null;
+            next = continueToken != null && !continueToken.isEmpty()
+                ? fetchPageAsync(clusterId, kind, fetcher, continueToken)
+                : null;
+
+            try {
+                pageConsumer.accept(cursor.unseen(page.getItems()));
+            } catch (RuntimeException e) {
+                if (next != null) {
+                    next.cancel(true);
+                }
+                throw e;
+            }
+        }
+
+        log.debug("Listed {} in {} pages from cluster: {}", kind, pageCount, clusterId);
+    }
+
+    private <L> CompletableFuture<L> fetchPageAsync(String clusterId, String kind, Function<ListOptions, L> fetcher,
+                                                    String continueToken) {
+        ListOptions options = new ListOptionsBuilder()
+            .withLimit(listPageSize)
+            .withContinue(continueToken)
+            .build();
+        return concurrencyLimiter.callAsync(clusterId, "list/" + kind + "/pages", () -> fetcher.apply(options));
+    }
+
+    /**
+     * 선조회한 페이지 대기 (인터럽트되면 즉시 중단 - 종류별 스캔 제한 시간으로 취소된 경우)
+     * - continue 토큰 만료(410)는 호출자가 이어서 조회하도록 KubernetesClientException 그대로 전달
+     */
+    private <L> L awaitPage(String clusterId, String kind, CompletableFuture<L> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new K8sApiException("Interrupted while listing " + kind, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof KubernetesClientException clientException && clientException.getCode() == HTTP_GONE) {
+                throw clientException;
+            }
+            log.error("Failed to list {} page in cluster: {}", kind, clusterId, cause);
+            if (cause instanceof K8sResourceNotFoundException notFound) {
+                throw notFound;
+            }
+            if (cause instanceof K8sApiException apiException) {
+                throw apiException;
+            }
+            throw new K8sApiException("Failed to list " + kind, cause);
+        }
+    }
+
+    /**
+     * 캐시에 있는 목록도 페이지 크기 단위로 전달 (호출자 입장에서 동작 일관성 유지)
+     */
+    private <T> void forEachChunk(List<T> items, Consumer<List<T>> pageConsumer) {
+        int pageSize = (int) Math.max(1, listPageSize);
+        for (int from = 0; from < items.size(); from += pageSize) {
+            pageConsumer.accept(items.subList(from, Math.min(items.size(), from + pageSize)));
         }
     }
 
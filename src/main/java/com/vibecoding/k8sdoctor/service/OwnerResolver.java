@@ -0,0 +1,159 @@
+package com.vibecoding.k8sdoctor.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vibecoding.k8sdoctor.repository.ClusterResourceCache;
+import com.vibecoding.k8sdoctor.repository.OwnerGraph;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리소스의 최상위 워크로드 owner 해석
+ * - 캐시 모드: Informer watch로 유지되는 ClusterResourceCache의 owner 그래프 사용
+ * - 그 외: 리소스 네임스페이스의 ReplicaSet/Job LIST로 만든 그래프를 ttl 동안 재사용
+ *   (ownerReference는 같은 네임스페이스만 가리키므로 네임스페이스 단위로 충분)
+ * - 직접 owner가 ReplicaSet/Job이 아니면 그래프 없이 바로 해석 (LIST 없음)
+ * - 그래프는 네임스페이스당 한 스레드만 만들고 (single-flight), 다른 스레드는 이전 그래프를 쓰거나 결과를 기다림
+ * - LIST 실패도 결과로 보관해 최소 간격 동안 다시 LIST하지 않음 (권한 없음 등)
+ *   그동안 그래프에 없는 ReplicaSet은 이름 규칙으로 Deployment 추정
+ */
+@Service
+public class OwnerResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(OwnerResolver.class);
+
+    // 그래프에 없는 uid나 LIST 실패 때문에 다시 LIST할 때의 최소 간격
+    private static final long MIN_REBUILD_INTERVAL_MILLIS = 5_000L;
+
+    private final ClusterService clusterService;
+    private final MultiClusterK8sService k8sService;
+    private final long ttlMillis;
+
+    // clusterId/namespace -> LIST로 만든 owner 그래프 (캐시 모드가 아닐 때, 삭제된 클러스터는 만료로 정리)
+    private final Map<String, ListedGraph> listedGraphs;
+
+    // clusterId/namespace -> 진행 중인 그래프 생성
+    private final Map<String, CompletableFuture<ListedGraph>> building = new ConcurrentHashMap<>();
+
+    public OwnerResolver(
+        ClusterService clusterService,
+        MultiClusterK8sService k8sService,
+        @Value("${kubernetes.owner-graph.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.clusterService = clusterService;
+        this.k8sService = k8sService;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.listedGraphs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(ttlMillis * 2))
+            .<String, ListedGraph>build()
+            .asMap();
+    }
+
+    /**
+     * LIST로 만든 그래프와 생성 시각 (complete=false이면 일부 LIST가 실패한 그래프)
+     */
+    private record ListedGraph(OwnerGraph graph, long builtAt, boolean complete) {
+    }
+
+    /**
+     * 리소스의 최상위 owner (ownerReference가 없으면 리소스 자신)
+     */
+    public OwnerGraph.Owner resolve(String clusterId, HasMetadata resource) {
+        Optional<OwnerGraph> cached = clusterService.getResourceCache(clusterId)
+            .flatMap(ClusterResourceCache::ownerGraph);
+        if (cached.isPresent()) {
+            return cached.get().resolveOrGuess(resource);
+        }
+
+        String namespace = resource.getMetadata() != null ? resource.getMetadata().getNamespace() : null;
+        if (namespace == null || !hasGraphOwner(resource)) {
+            return new OwnerGraph().resolve(resource);
+        }
+        return listedGraph(clusterId, namespace, resource).graph().resolveOrGuess(resource);
+    }
+
+    private ListedGraph listedGraph(String clusterId, String namespace, HasMetadata resource) {
+        String key = clusterId + "/" + namespace;
+        long now = System.currentTimeMillis();
+        ListedGraph current = listedGraphs.get(key);
+
+        if (current != null) {
+            long age = now - current.builtAt();
+            boolean retry = age > MIN_REBUILD_INTERVAL_MILLIS
+                && (!current.complete() || hasUnknownOwner(current.graph(), resource));
+            if (age <= ttlMillis && !retry) {
+                return current;
+            }
+        }
+
+        CompletableFuture<ListedGraph> created = new CompletableFuture<>();
+        CompletableFuture<ListedGraph> running = building.putIfAbsent(key, created);
+        if (running != null) {
+            // 다른 스레드가 생성 중: 이전 그래프가 있으면 그대로 사용, 없으면 결과를 기다림
+            return current != null ? current : running.join();
+        }
+
+        try {
+            ListedGraph built = build(clusterId, namespace);
+            listedGraphs.put(key, built);
+            created.complete(built);
+            return built;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.remove(key, created);
+        }
+    }
+
+    /**
+     * 직접 owner가 그래프로 추적하는 종류(ReplicaSet, Job)인지
+     */
+    private static boolean hasGraphOwner(HasMetadata resource) {
+        List<OwnerReference> references = resource.getMetadata().getOwnerReferences();
+        return references != null && references.stream().anyMatch(OwnerResolver::isGraphKind);
+    }
+
+    private static boolean hasUnknownOwner(OwnerGraph graph, HasMetadata resource) {
+        return resource.getMetadata().getOwnerReferences().stream()
+            .filter(OwnerResolver::isGraphKind)
+            .anyMatch(reference -> !graph.contains(reference.getUid()));
+    }
+
+    private static boolean isGraphKind(OwnerReference reference) {
+        return "ReplicaSet".equals(reference.getKind()) || "Job".equals(reference.getKind());
+    }
+
+    /**
+     * 네임스페이스의 ReplicaSet/Job으로 그래프 생성 (종류별 LIST 실패는 해당 종류만 비워 둠)
+     */
+    private ListedGraph build(String clusterId, String namespace) {
+        OwnerGraph graph = new OwnerGraph();
+        boolean complete = true;
+        try {
+            k8sService.listReplicaSetsInNamespace(clusterId, namespace).forEach(graph::put);
+        } catch (RuntimeException e) {
+            complete = false;
+            log.warn("Failed to list replicasets for owner graph of {}/{}: {}", clusterId, namespace, e.getMessage());
+        }
+        try {
+            k8sService.listJobsInNamespace(clusterId, namespace).forEach(graph::put);
+        } catch (RuntimeException e) {
+            complete = false;
+            log.warn("Failed to list jobs for owner graph of {}/{}: {}", clusterId, namespace, e.getMessage());
+        }
+        log.debug("Built owner graph for {}/{} ({} nodes{})", clusterId, namespace, graph.size(),
+            complete ? "" : ", partial");
+        return new ListedGraph(graph, System.currentTimeMillis(), complete);
+    }
+}
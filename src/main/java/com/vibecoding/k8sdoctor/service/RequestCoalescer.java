@@ -0,0 +1,80 @@
+package com.vibecoding.k8sdoctor.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 Kubernetes 조회 요청 병합 (single-flight)
+ * - 같은 키로 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 함께 사용
+ * - 결과는 호출이 끝나는 즉시 버림 (캐시가 아님 - 완료 후 들어온 요청은 새로 호출)
+ * - 실패도 대기 중이던 호출자 모두에게 같은 예외로 전달
+ */
+@Component
+public class RequestCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    /**
+     * 요청 키 (namespace/selector가 없으면 null)
+     */
+    public record Key(String clusterId, String verb, String kind, String namespace, String selector) {
+    }
+
+    // 진행 중인 호출 (키 -> 결과 Future)
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // 병합되어 API 호출을 생략한 요청 수
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * 진행 중인 동일 요청이 있으면 결과를 기다리고, 없으면 직접 호출
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Key key, Supplier<T> call) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            log.debug("Coalesced request: {}", key);
+            return (T) await(existing);
+        }
+
+        try {
+            T result = call.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+}
@@ -0,0 +1,32 @@
+package com.vibecoding.k8sdoctor.service;
+
+import com.vibecoding.k8sdoctor.repository.ClusterRepository;
+import com.vibecoding.k8sdoctor.repository.ResourceSnapshotStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Informer 캐시 스냅샷 주기 저장
+ * - 재시작 후 스냅샷으로 store를 채워 전체 LIST가 끝나기 전에도 캐시 조회 가능
+ * - 캐시 모드가 꺼져 있거나 스냅샷이 비활성화되어 있으면 아무것도 하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceSnapshotWriter {
+
+    private final ClusterRepository clusterRepository;
+    private final ResourceSnapshotStore snapshotStore;
+
+    @Value("${kubernetes.cache.enabled:false}")
+    private boolean cacheEnabled;
+
+    @Scheduled(fixedDelayString = "${kubernetes.cache.snapshot.interval-ms:300000}",
+               initialDelayString = "${kubernetes.cache.snapshot.interval-ms:300000}")
+    public void writeSnapshots() {
+        if (cacheEnabled && snapshotStore.isEnabled()) {
+            clusterRepository.saveCacheSnapshots();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.vibecoding.k8sdoctor.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecoding.k8sdoctor.repository.PruningItemStore;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Status;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Kubernetes LIST 응답 스트리밍 디코더 (Jackson streaming parser)
+ * - items 배열을 한 번에 역직렬화하지 않고 항목 하나씩 읽어 바로 consumer에 전달
+ * - 메모리에는 현재 항목 하나만 유지 (전체 XxxList 객체를 만들지 않음)
+ * - 파싱 단계에서 metadata.managedFields를 건너뛰고, last-applied 어노테이션은 항목별로 제거
+ */
+public class StreamingListDecoder {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .addMixIn(ObjectMeta.class, SkipManagedFields.class);
+
+    /**
+     * ObjectMeta 역직렬화 시 managedFields 무시
+     */
+    @JsonIgnoreProperties(value = {"managedFields"}, ignoreUnknown = true)
+    private abstract static class SkipManagedFields {
+    }
+
+    /**
+     * LIST 응답 본문을 읽으며 항목마다 itemConsumer 호출
+     *
+     * @return 다음 페이지 continue 토큰 (마지막 페이지면 null 또는 빈 문자열)
+     */
+    public <T extends HasMetadata> String decode(InputStream body, Class<T> itemType, Consumer<T> itemConsumer)
+            throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected list response: expected JSON object");
+            }
+
+            String continueToken = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        T item = mapper.readValue(parser, itemType);
+                        PruningItemStore.prune(item);
+                        itemConsumer.accept(item);
+                    }
+                } else if ("metadata".equals(field) && value == JsonToken.START_OBJECT) {
+                    ListMeta metadata = mapper.readValue(parser, ListMeta.class);
+                    continueToken = metadata.getContinue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return continueToken;
+        }
+    }
+
+    /**
+     * 오류 응답 본문(Status) 디코딩 (410 응답의 inconsistent continue 토큰 등)
+     */
+    public Status decodeStatus(InputStream body) throws IOException {
+        return mapper.readValue(body, Status.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.vibecoding.k8sdoctor.repository;
+
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.EventBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 저장소 조회 테스트
+ * - uid로 조회하면 같은 이름으로 다시 만들어진 오브젝트의 이전 이벤트 제외
+ */
+class ClusterEventStoreTest {
+
+    private final ClusterEventStore store = new ClusterEventStore("test-cluster", null, null);
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void findByUidExcludesEventsOfRecreatedObject() {
+        store.load(List.of(
+            event("old-scheduled", "old-uid", "2024-01-01T00:00:00Z"),
+            event("new-scheduled", "new-uid", "2024-01-01T00:05:00Z"),
+            event("new-pulled", "new-uid", "2024-01-01T00:06:00Z"),
+            event("no-uid", null, "2024-01-01T00:07:00Z")
+        ));
+
+        assertThat(store.find("Pod", "default", "web-0", "new-uid", 20))
+            .extracting(e -> e.getMetadata().getName())
+            .containsExactly("no-uid", "new-pulled", "new-scheduled");
+        assertThat(store.find("Pod", "default", "web-0", null, 20))
+            .hasSize(4);
+    }
+
+    private static Event event(String name, String uid, String lastTimestamp) {
+        return new EventBuilder()
+            .withNewMetadata().withName(name).withNamespace("default").endMetadata()
+            .withNewInvolvedObject()
+                .withKind("Pod").withNamespace("default").withName("web-0").withUid(uid)
+            .endInvolvedObject()
+            .withLastTimestamp(lastTimestamp)
+            .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.vibecoding.k8sdoctor.service;
+
+import com.vibecoding.k8sdoctor.exception.K8sThrottledException;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 클러스터별 동시 요청 제한 테스트
+ * - AIMD 증가/감소, 429 보류, 대기열 초과, 슬롯 대기 시간 초과, 클러스터별 비동기 호출
+ */
+class ClusterConcurrencyLimiterTest {
+
+    private static final String CLUSTER_ID = "test-cluster";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fastResponsesIncreaseLimitAdditively() {
+        ClusterConcurrencyLimiter limiter = new ClusterConcurrencyLimiter(2, 1, 32, 8, 1000, 1000);
+
+        // 2 -> 2.5 -> 2.9 -> 3.24
+        limiter.call(CLUSTER_ID, () -> "ok");
+        limiter.call(CLUSTER_ID, () -> "ok");
+        assertThat(limiter.currentLimit(CLUSTER_ID)).isEqualTo(2);
+
+        limiter.call(CLUSTER_ID, () -> "ok");
+        assertThat(limiter.currentLimit(CLUSTER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    void slowerThanBaselineAndTargetDecreasesLimit() {
+        ClusterConcurrencyLimiter limiter = new ClusterConcurrencyLimiter(10, 1, 32, 8, 1000, 50);
+
+        // 10 -> 10.1 (기준 지연 시간 기록) -> 9.09
+        limiter.call(CLUSTER_ID, "get", () -> "ok");
+        limiter.call(CLUSTER_ID, "get", () -> sleep(150));
+
+        assertThat(limiter.currentLimit(CLUSTER_ID)).isEqualTo(9);
+    }
+
+    @Test
+    void consistentlySlowOperationDoesNotDecreaseLimit() {
+        ClusterConcurrencyLimiter limiter = new ClusterConcurrencyLimiter(10, 1, 32, 8, 1000, 50);
+
+        // 클러스터 전체 LIST처럼 항상 target보다 오래 걸리는 작업은 자기 기준 대비로만 판단
+        for (int i = 0; i < 3; i++) {
+            limiter.call(CLUSTER_ID, "list/pods", () -> sleep(100));
+        }
+
+        assertThat(limiter.currentLimit(CLUSTER_ID)).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    void concurrentSlowResponsesDecreaseOnlyOnce() throws Exception {
+        ClusterConcurrencyLimiter limiter = new ClusterConcurrencyLimiter(10, 1, 32, 8, 1000, 50);
+        limiter.call(CLUSTER_ID, "get", () -> "ok");
+
+        // 두 요청 모두 첫 감소 전에 시작 -> 한 번만 감소 (10.1 -> 9.09)
+        CountDownLatch started = new CountDownLatch(2);
+        Runnable slowCall = () -> limiter.call(CLUSTER_ID, "get", () -> {
+            started.countDown();
+            await(started);
+            return sleep(150);
+        });
+        Future<?> first = executor.submit(slowCall);
+        Future<?> second = executor.submit(slowCall);
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertThat(limiter.currentLimit(CLUSTER_ID)).isEqualTo(9);
+    }
+
+    @Test
+    void throttledResponseHalvesLimitAndBlocksForRetryAfter() {
+        ClusterConcurrencyLimiter limiter = new ClusterConcurrencyLimiter(8, 1, 32, 8, 300, 1000);
+        Status status = new StatusBuilder()
+            .withCode(429)
+            .withNewDetails().withRetryAfterSeconds(2).endDetails()
+            .build();
+
+        assertThatThrownBy(() -> limiter.call(CLUSTER_ID, () -> {
+            throw new KubernetesClientException("throttled", 429, status);
+        })).isInstanceOf(KubernetesClientException.class);
+        assertThat(limiter.currentLimit(CLUSTER_ID)).isEqualTo(4);
+
+        // Retry-After(2초) 동안 새 요청 보류 -> acquire-timeout(300ms) 초과
+        assertThatThrownBy(() -> limiter.call(CLUSTER_ID, () -> "ok"))
+            .isInstanceOf(K8sThrottledException.class)
+            .hasMessageContaining("Timed out");
+    }
+
+    @Test
+    void retryAfterHeaderAcceptsSecondsAndHttpDate() {
+        assertThat(ClusterConcurrencyLimiter.parseRetryAfter("3")).isEqualTo(3);
+        assertThat(ClusterConcurrencyLimiter.parseRetryAfter("0")).isEqualTo(1);
+        assertThat(ClusterConcurrencyLimiter.parseRetryAfter(
+            DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30))))
+            .isBetween(25, 30);
+        assertThat(ClusterConcurrencyLimiter.parseRetryAfter("soon")).isNull();
+        assertThat(ClusterConcurrencyLimiter.parseRetryAfter(null)).isNull();
+    }
+
+    @Test
+    void fullQueueRejectsImmediately() throws Exception {
+        ClusterConcurrencyLimiter limiter = new ClusterConcurrencyLimiter(1, 1, 1, 1, 5000, 1000);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<?> holder = executor.submit(() -> limiter.call(CLUSTER_ID, () -> {
+            holding.countDown();
+            await(release);
+            return "ok";
+        }));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<?> queued = executor.submit(() -> limiter.call(CLUSTER_ID, () -> "ok"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limiter.queued(CLUSTER_ID) < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(limiter.queued(CLUSTER_ID)).isEqualTo(1);
+
+        assertThatThrownBy(() -> limiter.call(CLUSTER_ID, () -> "ok"))
+            .isInstanceOf(K8sThrottledException.class)
+            .hasMessageContaining("Too many queued");
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void waitingLongerThanAcquireTimeoutFails() throws Exception {
+        ClusterConcurrencyLimiter limiter = new ClusterConcurrencyLimiter(1, 1, 1, 4, 100, 1000);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<?> holder = executor.submit(() -> limiter.call(CLUSTER_ID, () -> {
+            holding.countDown();
+            await(release);
+            return "ok";
+        }));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> limiter.call(CLUSTER_ID, () -> "ok"))
+            .isInstanceOf(K8sThrottledException.class)
+            .hasMessageContaining("Timed out");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(90);
+        assertThat(limiter.queued(CLUSTER_ID)).isZero();
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void asyncCallsOfOtherClusterAreNotBlockedBySaturatedCluster() throws Exception {
+        ClusterConcurrencyLimiter limiter = new ClusterConcurrencyLimiter(1, 1, 1, 8, 5000, 1000);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // CLUSTER_ID의 슬롯을 점유하고 비동기 호출 여러 개를 대기시킴
+        Future<?> holder = executor.submit(() -> limiter.call(CLUSTER_ID, () -> {
+            holding.countDown();
+            await(release);
+            return "ok";
+        }));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<String>> waiting = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            waiting.add(limiter.callAsync(CLUSTER_ID, "list/pods/pages", () -> "ok"));
+        }
+
+        assertThat(limiter.callAsync("other-cluster", "list/pods/pages", () -> "other")
+            .get(1, TimeUnit.SECONDS)).isEqualTo("other");
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<String> future : waiting) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        }
+        limiter.shutdown();
+    }
+
+    private static String sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "ok";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
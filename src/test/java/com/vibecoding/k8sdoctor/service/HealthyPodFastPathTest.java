@@ -0,0 +1,285 @@
+package com.vibecoding.k8sdoctor.service;
+
+import com.vibecoding.k8sdoctor.detector.FaultDetector;
+import com.vibecoding.k8sdoctor.detector.PodFaultDetector;
+import com.vibecoding.k8sdoctor.model.FaultInfo;
+import com.vibecoding.k8sdoctor.model.PodSnapshot;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.ContainerStatus;
+import io.fabric8.kubernetes.api.model.ContainerStatusBuilder;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodCondition;
+import io.fabric8.kubernetes.api.model.PodConditionBuilder;
+import io.fabric8.kubernetes.api.model.Probe;
+import io.fabric8.kubernetes.api.model.ProbeBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정상 Pod 빠른 경로 가드 테스트
+ * - FaultClassificationService.isHealthy를 통과하는 Pod에서는 등록된 모든 Pod 탐지기가 장애를 보고하지 않아야 함
+ * - 탐지기는 detector 패키지를 스캔해 찾으므로 새 탐지기도 자동으로 검사 대상
+ * - PodSnapshot으로 줄인 Pod도 원본과 같은 결과를 내는지 확인 (캐시 모드의 Pod store)
+ */
+class HealthyPodFastPathTest {
+
+    private static final String CLUSTER_ID = "test-cluster";
+    private static final String NAMESPACE = "default";
+
+    private static final List<FaultDetector> POD_DETECTORS = podDetectors();
+
+    @Test
+    void everyPodDetectorOptsIntoFastPath() {
+        assertThat(POD_DETECTORS).isNotEmpty();
+        assertThat(POD_DETECTORS)
+            .allSatisfy(detector -> assertThat(detector)
+                .isInstanceOfSatisfying(PodFaultDetector.class,
+                    podDetector -> assertThat(podDetector.ignoresHealthyPods())
+                        .as(detector.getClass().getSimpleName())
+                        .isTrue()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("healthyPods")
+    void healthyPodsProduceNoFaults(String name, Pod pod) {
+        assertThat(FaultClassificationService.isHealthy(pod)).as("isHealthy(%s)", name).isTrue();
+
+        List<String> reported = new ArrayList<>();
+        for (FaultDetector detector : POD_DETECTORS) {
+            List<FaultInfo> faults = detector.detect(CLUSTER_ID, NAMESPACE, pod);
+            faults.forEach(fault -> reported.add(detector.getClass().getSimpleName() + ": " + fault.getFaultType()));
+        }
+        assertThat(reported).as("faults reported for healthy pod %s", name).isEmpty();
+    }
+
+    @Test
+    void crashLoopingPodIsNotHealthyAndIsDetected() {
+        Pod pod = crashLoopingPod();
+
+        assertThat(FaultClassificationService.isHealthy(pod)).isFalse();
+        assertThat(POD_DETECTORS.stream().flatMap(detector -> detector.detect(CLUSTER_ID, NAMESPACE, pod).stream()))
+            .isNotEmpty();
+    }
+
+    /**
+     * 캐시가 보관하는 PodSnapshot에서 만든 Pod도 원본과 같은 판정/탐지 결과를 내야 함
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("allPods")
+    void projectedPodsClassifyLikeOriginals(String name, Pod pod) {
+        Pod projected = PodSnapshot.of(pod).toPod();
+
+        assertThat(FaultClassificationService.isHealthy(projected))
+            .as("isHealthy(%s)", name)
+            .isEqualTo(FaultClassificationService.isHealthy(pod));
+        for (FaultDetector detector : POD_DETECTORS) {
+            assertThat(faultKeys(detector.detect(CLUSTER_ID, NAMESPACE, projected)))
+                .as("%s on %s", detector.getClass().getSimpleName(), name)
+                .isEqualTo(faultKeys(detector.detect(CLUSTER_ID, NAMESPACE, pod)));
+        }
+    }
+
+    static Stream<Arguments> allPods() {
+        return Stream.concat(healthyPods(), Stream.of(Arguments.of("crash looping", crashLoopingPod())));
+    }
+
+    private static List<String> faultKeys(List<FaultInfo> faults) {
+        return faults.stream()
+            .map(fault -> fault.getFaultType() + " " + fault.getResourceName() + " " + fault.getContext())
+            .toList();
+    }
+
+    private static Pod crashLoopingPod() {
+        return new PodBuilder(basePod("crashloop", List.of(appContainer("app", true))))
+            .editStatus()
+                .withContainerStatuses(new ContainerStatusBuilder()
+                    .withName("app")
+                    .withReady(false)
+                    .withRestartCount(5)
+                    .withNewState().withNewWaiting().withReason("CrashLoopBackOff").endWaiting().endState()
+                    .withNewLastState().withNewTerminated().withExitCode(1).withReason("Error").endTerminated().endLastState()
+                    .build())
+            .endStatus()
+            .build();
+    }
+
+    static Stream<Arguments> healthyPods() {
+        Pod single = basePod("single", List.of(appContainer("app", true)));
+
+        Pod noProbes = basePod("no-probes", List.of(appContainer("app", false)));
+
+        Pod multiContainer = basePod("multi", List.of(appContainer("app", true), appContainer("proxy", false)));
+
+        Pod withInit = new PodBuilder(basePod("init", List.of(appContainer("app", true))))
+            .editSpec()
+                .withInitContainers(new ContainerBuilder().withName("migrate").withImage("migrate:1.0").build())
+            .endSpec()
+            .editStatus()
+                .withInitContainerStatuses(new ContainerStatusBuilder()
+                    .withName("migrate")
+                    .withReady(false)
+                    .withRestartCount(0)
+                    .withNewState().withNewTerminated().withExitCode(0).withReason("Completed").endTerminated().endState()
+                    .build())
+            .endStatus()
+            .build();
+
+        // native sidecar (restartPolicy: Always init 컨테이너)
+        Pod withSidecar = new PodBuilder(basePod("sidecar", List.of(appContainer("app", true))))
+            .editSpec()
+                .withInitContainers(new ContainerBuilder()
+                    .withName("log-shipper")
+                    .withImage("shipper:2.1")
+                    .withRestartPolicy("Always")
+                    .withReadinessProbe(probe())
+                    .build())
+            .endSpec()
+            .editStatus()
+                .withInitContainerStatuses(new ContainerStatusBuilder()
+                    .withName("log-shipper")
+                    .withReady(true)
+                    .withStarted(true)
+                    .withRestartCount(0)
+                    .withNewState().withNewRunning().withStartedAt(timestamp(2)).endRunning().endState()
+                    .build())
+            .endStatus()
+            .build();
+
+        Pod jobPod = new PodBuilder(basePod("job-worker", List.of(appContainer("worker", false))))
+            .editMetadata()
+                .withOwnerReferences(List.of())
+                .addNewOwnerReference()
+                    .withApiVersion("batch/v1").withKind("Job").withName("nightly-28300000")
+                    .withUid("job-uid").withController(true)
+                .endOwnerReference()
+            .endMetadata()
+            .build();
+
+        return Stream.of(
+            Arguments.of("single container with probes", single),
+            Arguments.of("single container without probes", noProbes),
+            Arguments.of("multiple containers", multiContainer),
+            Arguments.of("completed init container", withInit),
+            Arguments.of("running sidecar init container", withSidecar),
+            Arguments.of("job-owned pod", jobPod)
+        );
+    }
+
+    /**
+     * Running, 모든 condition True, 모든 컨테이너 Running + Ready, 재시작 없음
+     */
+    private static Pod basePod(String name, List<Container> containers) {
+        List<ContainerStatus> statuses = containers.stream()
+            .map(container -> new ContainerStatusBuilder()
+                .withName(container.getName())
+                .withImage(container.getImage())
+                .withReady(true)
+                .withStarted(true)
+                .withRestartCount(0)
+                .withNewState().withNewRunning().withStartedAt(timestamp(2)).endRunning().endState()
+                .build())
+            .toList();
+
+        return new PodBuilder()
+            .withNewMetadata()
+                .withName(name + "-7d9f8b6c5d-x2k4p")
+                .withNamespace(NAMESPACE)
+                .withUid(name + "-uid")
+                .withResourceVersion("1")
+                .withCreationTimestamp(timestamp(3))
+                .withLabels(Map.of("app", name))
+                .addNewOwnerReference()
+                    .withApiVersion("apps/v1").withKind("ReplicaSet").withName(name + "-7d9f8b6c5d")
+                    .withUid(name + "-rs-uid").withController(true)
+                .endOwnerReference()
+            .endMetadata()
+            .withNewSpec()
+                .withNodeName("node-1")
+                .withContainers(containers)
+            .endSpec()
+            .withNewStatus()
+                .withPhase("Running")
+                .withStartTime(timestamp(3))
+                .withConditions(
+                    condition("PodReadyToStartContainers"),
+                    condition("Initialized"),
+                    condition("Ready"),
+                    condition("ContainersReady"),
+                    condition("PodScheduled"))
+                .withContainerStatuses(statuses)
+            .endStatus()
+            .build();
+    }
+
+    private static Container appContainer(String name, boolean probes) {
+        ContainerBuilder builder = new ContainerBuilder()
+            .withName(name)
+            .withImage(name + ":1.0")
+            .withNewResources()
+                .withRequests(Map.of("cpu", new Quantity("100m"), "memory", new Quantity("128Mi")))
+                .withLimits(Map.of("memory", new Quantity("256Mi")))
+            .endResources()
+            .addNewVolumeMount().withName("data").withMountPath("/data").endVolumeMount();
+        if (probes) {
+            builder.withLivenessProbe(probe()).withReadinessProbe(probe()).withStartupProbe(probe());
+        }
+        return builder.build();
+    }
+
+    private static Probe probe() {
+        return new ProbeBuilder()
+            .withNewHttpGet().withPath("/healthz").withPort(new IntOrString(8080)).endHttpGet()
+            .withPeriodSeconds(10)
+            .build();
+    }
+
+    private static PodCondition condition(String type) {
+        return new PodConditionBuilder()
+            .withType(type)
+            .withStatus("True")
+            .withLastTransitionTime(timestamp(2))
+            .build();
+    }
+
+    private static String timestamp(int daysAgo) {
+        return Instant.now().minus(daysAgo, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS).toString();
+    }
+
+    private static List<FaultDetector> podDetectors() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(FaultDetector.class));
+
+        List<FaultDetector> detectors = new ArrayList<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents("com.vibecoding.k8sdoctor.detector")) {
+            try {
+                FaultDetector detector = (FaultDetector) Class.forName(definition.getBeanClassName())
+                    .getDeclaredConstructor()
+                    .newInstance();
+                if (detector.supportedKinds().contains("Pod")) {
+                    detectors.add(detector);
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot instantiate detector " + definition.getBeanClassName(), e);
+            }
+        }
+        return detectors;
+    }
+}